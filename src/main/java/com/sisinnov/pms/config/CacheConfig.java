@@ -1,9 +1,73 @@
 package com.sisinnov.pms.config;
 
+import com.sisinnov.pms.enums.TaskPriority;
+import com.sisinnov.pms.enums.TaskStatus;
+import com.sisinnov.pms.service.CacheKeys;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Pageable;
+
+import java.util.UUID;
 
 @Configuration
 @EnableCaching
 public class CacheConfig {
+
+    @Bean(CacheKeys.TASK_LIST_KEY)
+    public KeyGenerator taskListKey(CacheKeys keys) {
+        return (target, method, params) -> keys.taskList(
+                (TaskStatus) params[0], (TaskPriority) params[1], (UUID) params[2]);
+    }
+
+    @Bean(CacheKeys.TASK_PAGE_KEY)
+    public KeyGenerator taskPageKey(CacheKeys keys) {
+        return (target, method, params) -> keys.taskPage(
+                (TaskStatus) params[0], (TaskPriority) params[1], (UUID) params[2],
+                (String) params[3], (Integer) params[4]);
+    }
+
+    @Bean(CacheKeys.TASK_SEARCH_KEY)
+    public KeyGenerator taskSearchKey(CacheKeys keys) {
+        return (target, method, params) -> keys.taskSearch(
+                (String) params[0], (UUID) params[1], (Integer) params[2]);
+    }
+
+    @Bean(CacheKeys.TASKS_BY_PROJECT_KEY)
+    public KeyGenerator tasksByProjectKey(CacheKeys keys) {
+        return (target, method, params) -> keys.tasksByProject((UUID) params[0]);
+    }
+
+    @Bean(CacheKeys.TASKS_BY_STATUS_KEY)
+    public KeyGenerator tasksByStatusKey(CacheKeys keys) {
+        return (target, method, params) -> keys.tasksByStatus((TaskStatus) params[0]);
+    }
+
+    @Bean(CacheKeys.TASKS_BY_PRIORITY_KEY)
+    public KeyGenerator tasksByPriorityKey(CacheKeys keys) {
+        return (target, method, params) -> keys.tasksByPriority((TaskPriority) params[0]);
+    }
+
+    @Bean(CacheKeys.TASKS_DUE_SOON_KEY)
+    public KeyGenerator tasksDueSoonKey(CacheKeys keys) {
+        return (target, method, params) -> keys.tasksDueSoon((UUID) params[0]);
+    }
+
+    @Bean(CacheKeys.PROJECT_LIST_KEY)
+    public KeyGenerator projectListKey(CacheKeys keys) {
+        return (target, method, params) -> keys.projectList(
+                (String) params[1], (String) params[2], (Pageable) params[3]);
+    }
+
+    @Bean(CacheKeys.USER_PROJECTS_KEY)
+    public KeyGenerator userProjectsKey(CacheKeys keys) {
+        return (target, method, params) -> keys.userProjects(
+                (UUID) params[0], (UUID) params[1], (Integer) params[2]);
+    }
+
+    @Bean(CacheKeys.PROJECT_COUNT_KEY)
+    public KeyGenerator projectCountKey(CacheKeys keys) {
+        return (target, method, params) -> keys.projectCount();
+    }
 }
\ No newline at end of file
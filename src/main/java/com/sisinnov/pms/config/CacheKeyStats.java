@@ -0,0 +1,118 @@
+package com.sisinnov.pms.config;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+public class CacheKeyStats {
+
+    private static final int UUID_LENGTH = 36;
+
+    private final int capacity;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean trimming = new AtomicBoolean();
+
+    public CacheKeyStats(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public static String family(String key) {
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c == ':' || c == '@' || c == '#') {
+                return key.substring(0, i);
+            }
+        }
+        return isUuid(key) ? "id" : "other";
+    }
+
+    private static boolean isUuid(String key) {
+        if (key.length() != UUID_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            char c = key.charAt(i);
+            boolean dash = i == 8 || i == 13 || i == 18 || i == 23;
+            if (dash ? c != '-' : Character.digit(c, 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void recordHit(String key) {
+        entry(key).hits.increment();
+    }
+
+    public void recordSize(String key, int bytes) {
+        entry(key).sizeBytes = bytes;
+    }
+
+    public void remove(String key) {
+        entries.remove(key);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public List<KeyStat> hottest(int limit) {
+        return top(limit, stat -> stat.hits());
+    }
+
+    public List<KeyStat> largest(int limit) {
+        return top(limit, stat -> stat.sizeBytes() != null ? stat.sizeBytes() : -1);
+    }
+
+    private List<KeyStat> top(int limit, ToLongFunction<KeyStat> order) {
+        return entries.entrySet().stream()
+                .map(entry -> new KeyStat(
+                        entry.getKey(),
+                        family(entry.getKey()),
+                        entry.getValue().hits.sum(),
+                        entry.getValue().sizeBytes))
+                .sorted(Comparator.comparingLong(order).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    private Entry entry(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            return entry;
+        }
+        if (entries.size() >= capacity) {
+            trim();
+        }
+        return entries.computeIfAbsent(key, k -> new Entry());
+    }
+
+    private void trim() {
+        if (!trimming.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<String> coldest = entries.entrySet().stream()
+                    .sorted(Comparator.comparingLong(entry -> entry.getValue().hits.sum()))
+                    .limit(entries.size() - capacity / 2L)
+                    .map(Map.Entry::getKey)
+                    .toList();
+            coldest.forEach(entries::remove);
+        } finally {
+            trimming.set(false);
+        }
+    }
+
+    public record KeyStat(String key, String family, long hits, Integer sizeBytes) {
+    }
+
+    private static final class Entry {
+
+        private final LongAdder hits = new LongAdder();
+        private volatile Integer sizeBytes;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.sisinnov.pms.config;
+
+public interface CacheLoadLock {
+
+    CacheLoadLock NONE = new CacheLoadLock() {
+        @Override
+        public String tryLock(String key) {
+            return "";
+        }
+
+        @Override
+        public void unlock(String key, String token) {
+        }
+    };
+
+    String tryLock(String key);
+
+    void unlock(String key, String token);
+}
\ No newline at end of file
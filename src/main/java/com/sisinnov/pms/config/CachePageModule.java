@@ -0,0 +1,119 @@
+package com.sisinnov.pms.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class CachePageModule extends SimpleModule {
+
+    public CachePageModule() {
+        super("CachePageModule");
+        addSerializer(PageImpl.class, new PageSerializer());
+        addDeserializer(PageImpl.class, new PageDeserializer());
+    }
+
+    static class PageSerializer extends StdSerializer<PageImpl> {
+
+        PageSerializer() {
+            super(PageImpl.class);
+        }
+
+        @Override
+        public void serialize(PageImpl page, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject();
+            gen.writeFieldName("content");
+            provider.defaultSerializeValue(new ArrayList<>(page.getContent()), gen);
+            gen.writeBooleanField("paged", page.getPageable().isPaged());
+            gen.writeNumberField("number", page.getNumber());
+            gen.writeNumberField("size", page.getSize());
+            gen.writeNumberField("totalElements", page.getTotalElements());
+            gen.writeArrayFieldStart("sort");
+            for (Sort.Order order : page.getSort()) {
+                gen.writeString(order.getProperty());
+                gen.writeString(order.getDirection().name());
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+        }
+    }
+
+    static class PageDeserializer extends StdDeserializer<PageImpl> implements ContextualDeserializer {
+
+        private final JavaType contentType;
+
+        PageDeserializer() {
+            this(null);
+        }
+
+        private PageDeserializer(JavaType contentType) {
+            super(PageImpl.class);
+            this.contentType = contentType;
+        }
+
+        @Override
+        public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) {
+            JavaType type = ctxt.getContextualType();
+            JavaType elementType = type != null && type.containedTypeCount() > 0
+                    ? type.containedType(0)
+                    : ctxt.constructType(Object.class);
+            return new PageDeserializer(ctxt.getTypeFactory().constructCollectionType(List.class, elementType));
+        }
+
+        @Override
+        public PageImpl deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            List<Object> content = List.of();
+            boolean paged = true;
+            int number = 0;
+            int size = 0;
+            long totalElements = 0;
+            List<Sort.Order> orders = new ArrayList<>();
+
+            JsonToken token = p.currentToken();
+            if (token == JsonToken.START_OBJECT) {
+                token = p.nextToken();
+            }
+            for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+                String field = p.currentName();
+                p.nextToken();
+                switch (field) {
+                    case "content" -> content = (List<Object>) ctxt.readValue(p, contentType);
+                    case "paged" -> paged = p.getBooleanValue();
+                    case "number" -> number = p.getIntValue();
+                    case "size" -> size = p.getIntValue();
+                    case "totalElements" -> totalElements = p.getLongValue();
+                    case "sort" -> {
+                        while (p.nextToken() != JsonToken.END_ARRAY) {
+                            String property = p.getText();
+                            p.nextToken();
+                            orders.add(new Sort.Order(Sort.Direction.valueOf(p.getText()), property));
+                        }
+                    }
+                    default -> p.skipChildren();
+                }
+            }
+
+            Pageable pageable = paged && size > 0
+                    ? PageRequest.of(number, size, Sort.by(orders))
+                    : Pageable.unpaged();
+            return new PageImpl<>(content, pageable, totalElements);
+        }
+    }
+}
\ No newline at end of file
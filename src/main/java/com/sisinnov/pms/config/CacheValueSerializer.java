@@ -0,0 +1,262 @@
+package com.sisinnov.pms.config;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sisinnov.pms.dto.response.CursorPage;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class CacheValueSerializer implements RedisSerializer<Object> {
+
+    public enum Format {
+        JSON,
+        SMILE
+    }
+
+    private static final byte LEGACY_RAW = 0;
+    private static final byte LEGACY_LZ4 = 1;
+    private static final byte RAW = 2;
+    private static final byte LZ4 = 3;
+    private static final int LZ4_HEADER_LENGTH = 5;
+
+    private static final String DTO_PACKAGE = "com.sisinnov.pms.dto.";
+    private static final String MISSING = "missing";
+    private static final String EMPTY = "empty";
+    private static final char CONTAINER_SEPARATOR = ':';
+
+    private static final Map<String, Class<?>> SCALARS = Map.of(
+        "uuid", UUID.class,
+        "long", Long.class,
+        "int", Integer.class,
+        "string", String.class
+    );
+    private static final Map<Class<?>, String> SCALAR_IDS = Map.of(
+        UUID.class, "uuid",
+        Long.class, "long",
+        Integer.class, "int",
+        String.class, "string"
+    );
+    private static final Map<String, Class<?>> CONTAINERS = Map.of(
+        "list", List.class,
+        "page", PageImpl.class,
+        "cursor", CursorPage.class
+    );
+
+    private final ObjectMapper objectMapper;
+    private final int compressionThreshold;
+    private final LZ4Compressor compressor;
+    private final LZ4FastDecompressor decompressor;
+    private final Map<String, JavaType> types = new ConcurrentHashMap<>();
+
+    public CacheValueSerializer(Format format, int compressionThreshold) {
+        this.objectMapper = createObjectMapper(format);
+        this.compressionThreshold = compressionThreshold;
+
+        LZ4Factory lz4 = LZ4Factory.fastestInstance();
+        this.compressor = lz4.fastCompressor();
+        this.decompressor = lz4.fastDecompressor();
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(256);
+            buffer.write(RAW);
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(buffer)) {
+                write(generator, value);
+            }
+            byte[] bytes = buffer.toByteArray();
+
+            int length = bytes.length - 1;
+            if (compressionThreshold > 0 && length >= compressionThreshold) {
+                return compress(bytes, length);
+            }
+            return bytes;
+        } catch (IOException e) {
+            throw new SerializationException("Could not write cache value: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        try {
+            return switch (bytes[0]) {
+                case RAW -> read(objectMapper.getFactory().createParser(bytes, 1, bytes.length - 1));
+                case LZ4 -> {
+                    int length = ByteBuffer.wrap(bytes, 1, 4).getInt();
+                    byte[] payload = new byte[length];
+                    decompressor.decompress(bytes, LZ4_HEADER_LENGTH, payload, 0, length);
+                    yield read(objectMapper.getFactory().createParser(payload));
+                }
+                case LEGACY_RAW, LEGACY_LZ4 -> null;
+                default -> throw new SerializationException("Unknown cache value encoding: " + bytes[0]);
+            };
+        } catch (IOException e) {
+            throw new SerializationException("Could not read cache value: " + e.getMessage(), e);
+        }
+    }
+
+    private void write(JsonGenerator generator, Object value) throws IOException {
+        generator.writeStartObject();
+        Object payload = value;
+        if (value instanceof CachedValue cached) {
+            generator.writeNumberField("c", cached.computeMillis());
+            generator.writeNumberField("e", cached.expiresAt());
+            payload = cached.value();
+        }
+        generator.writeStringField("t", typeId(payload));
+        if (payload != MissingValue.INSTANCE) {
+            generator.writeFieldName("v");
+            objectMapper.writeValue(generator, payload);
+        }
+        generator.writeEndObject();
+    }
+
+    private Object read(JsonParser parser) throws IOException {
+        try (parser) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new SerializationException("Cache value is not a typed envelope");
+            }
+
+            Long computeMillis = null;
+            long expiresAt = 0;
+            String typeId = null;
+            Object value = null;
+            for (JsonToken token = parser.nextToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "c" -> computeMillis = parser.getLongValue();
+                    case "e" -> expiresAt = parser.getLongValue();
+                    case "t" -> typeId = parser.getText();
+                    case "v" -> {
+                        if (typeId == null) {
+                            throw new SerializationException("Cache value has no type id");
+                        }
+                        value = objectMapper.readValue(parser, type(typeId));
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+
+            if (MISSING.equals(typeId)) {
+                return MissingValue.INSTANCE;
+            }
+            return computeMillis != null ? new CachedValue(value, computeMillis, expiresAt) : value;
+        }
+    }
+
+    private static String typeId(Object value) {
+        if (value == MissingValue.INSTANCE) {
+            return MISSING;
+        }
+        if (value instanceof List<?> list) {
+            return "list" + CONTAINER_SEPARATOR + elementId(list);
+        }
+        if (value instanceof PageImpl<?> page) {
+            return "page" + CONTAINER_SEPARATOR + elementId(page.getContent());
+        }
+        if (value instanceof CursorPage<?> page) {
+            return "cursor" + CONTAINER_SEPARATOR + elementId(page.items());
+        }
+        return classId(value.getClass());
+    }
+
+    private static String elementId(List<?> items) {
+        return items.isEmpty() ? EMPTY : classId(items.get(0).getClass());
+    }
+
+    private static String classId(Class<?> type) {
+        String scalar = SCALAR_IDS.get(type);
+        if (scalar != null) {
+            return scalar;
+        }
+        if (type.getName().startsWith(DTO_PACKAGE)) {
+            return type.getName().substring(DTO_PACKAGE.length());
+        }
+        throw new SerializationException("Type " + type.getName() + " is not allowed in the cache");
+    }
+
+    private JavaType type(String typeId) {
+        return types.computeIfAbsent(typeId, this::constructType);
+    }
+
+    private JavaType constructType(String typeId) {
+        int separator = typeId.indexOf(CONTAINER_SEPARATOR);
+        if (separator < 0) {
+            return objectMapper.constructType(elementClass(typeId));
+        }
+        Class<?> container = CONTAINERS.get(typeId.substring(0, separator));
+        if (container == null) {
+            throw new SerializationException("Unknown cache container type: " + typeId);
+        }
+        return objectMapper.getTypeFactory()
+                .constructParametricType(container, elementClass(typeId.substring(separator + 1)));
+    }
+
+    private static Class<?> elementClass(String id) {
+        if (EMPTY.equals(id)) {
+            return Object.class;
+        }
+        Class<?> scalar = SCALARS.get(id);
+        if (scalar != null) {
+            return scalar;
+        }
+        try {
+            return Class.forName(DTO_PACKAGE + id, false, CacheValueSerializer.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new SerializationException("Unknown cache value type: " + id, e);
+        }
+    }
+
+    private byte[] compress(byte[] bytes, int length) {
+        byte[] compressed = new byte[LZ4_HEADER_LENGTH + compressor.maxCompressedLength(length)];
+        compressed[0] = LZ4;
+        ByteBuffer.wrap(compressed, 1, 4).putInt(length);
+        int compressedLength = compressor.compress(bytes, 1, length, compressed, LZ4_HEADER_LENGTH);
+
+        byte[] result = new byte[LZ4_HEADER_LENGTH + compressedLength];
+        System.arraycopy(compressed, 0, result, 0, result.length);
+        return result;
+    }
+
+    private static ObjectMapper createObjectMapper(Format format) {
+        JsonFactory factory = format == Format.SMILE
+                ? SmileFactory.builder().enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES).build()
+                : new JsonFactory();
+
+        ObjectMapper objectMapper = new ObjectMapper(factory);
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.registerModule(new CachePageModule());
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        return objectMapper;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,4 @@
+package com.sisinnov.pms.config;
+
+public record CachedValue(Object value, long computeMillis, long expiresAt) {
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.sisinnov.pms.config;
+
+import com.sisinnov.pms.service.IdExistenceFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+@ConditionalOnProperty(name = "id-filter.broadcast", havingValue = "true", matchIfMissing = true)
+public class IdExistenceFilterConfig {
+
+    @Bean
+    public RedisMessageListenerContainer idFilterListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            IdExistenceFilter idFilter) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(idFilter, new ChannelTopic(idFilter.channel()));
+        return container;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,5 @@
+package com.sisinnov.pms.config;
+
+public enum MissingValue {
+    INSTANCE
+}
\ No newline at end of file
@@ -1,18 +1,20 @@
 package com.sisinnov.pms.config;
 
-import com.fasterxml.jackson.annotation.JsonTypeInfo;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sisinnov.pms.service.CacheTagGenerations;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
@@ -23,23 +25,74 @@ import java.util.Map;
 @ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis", matchIfMissing = true)
 public class RedisCacheConfig {
 
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(5);
+
+    private static final Map<String, Duration> CACHE_TTLS = Map.of(
+        "projects", Duration.ofMinutes(5),
+        "tasks", Duration.ofMinutes(2),
+        "task-due-buckets", Duration.ofMinutes(10),
+        "project-summaries", Duration.ofMinutes(10),
+        "user-projects", Duration.ofMinutes(30)
+    );
+
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        objectMapper.activateDefaultTyping(
-            BasicPolymorphicTypeValidator.builder()
-                .allowIfBaseType(Object.class)
-                .build(),
-            ObjectMapper.DefaultTyping.NON_FINAL,
-            JsonTypeInfo.As.PROPERTY
+    public TwoLevelCacheManager cacheManager(
+            RedisConnectionFactory connectionFactory,
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${cache.invalidation-channel:cache:invalidation}") String invalidationChannel,
+            @Value("${cache.l1.maximum-size:10000}") long localMaximumSize,
+            @Value("${cache.l1.expire-after-write:PT1M}") Duration localExpireAfterWrite,
+            @Value("${cache.serializer.format:SMILE}") CacheValueSerializer.Format serializerFormat,
+            @Value("${cache.serializer.compression-threshold:1024}") int compressionThreshold,
+            @Value("${cache.early-refresh.beta:1.0}") double earlyRefreshBeta,
+            @Value("${cache.load-lock.enabled:false}") boolean loadLockEnabled,
+            @Value("${cache.load-lock.lease-time:PT5S}") Duration loadLockLeaseTime,
+            @Value("${cache.load-lock.wait:PT2S}") Duration loadLockWait,
+            @Value("${cache.stats.size-sample-rate:0.1}") double sizeSampleRate,
+            @Value("${cache.stats.key-capacity:10000}") int keyStatsCapacity,
+            @Value("${cache.negative-ttl:PT30S}") Duration negativeTtl) {
+        CacheValueSerializer serializer = new CacheValueSerializer(serializerFormat, compressionThreshold);
+        RedisCacheManager redisCacheManager = redisCacheManager(connectionFactory, serializer, negativeTtl);
+        redisCacheManager.afterPropertiesSet();
+
+        return new TwoLevelCacheManager(
+            redisCacheManager,
+            message -> redisTemplate.convertAndSend(invalidationChannel, message),
+            meterRegistry,
+            name -> CACHE_TTLS.getOrDefault(name, DEFAULT_TTL),
+            value -> serializer.serialize(value).length,
+            new TwoLevelCacheSettings(
+                localMaximumSize,
+                localExpireAfterWrite,
+                earlyRefreshBeta,
+                loadLockWait,
+                sizeSampleRate,
+                keyStatsCapacity
+            ),
+            loadLockEnabled ? new RedisCacheLoadLock(redisTemplate, loadLockLeaseTime) : CacheLoadLock.NONE
         );
+    }
 
-        GenericJackson2JsonRedisSerializer serializer =
-            new GenericJackson2JsonRedisSerializer(objectMapper);
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            TwoLevelCacheManager cacheManager,
+            CacheTagGenerations tagGenerations,
+            @Value("${cache.invalidation-channel:cache:invalidation}") String invalidationChannel) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(invalidationChannel));
+        container.addMessageListener(tagGenerations, new ChannelTopic(invalidationChannel));
+        return container;
+    }
 
+    private RedisCacheManager redisCacheManager(
+            RedisConnectionFactory connectionFactory,
+            RedisSerializer<Object> serializer,
+            Duration negativeTtl) {
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
-            .entryTtl(Duration.ofMinutes(5))
+            .entryTtl(ttl(DEFAULT_TTL, negativeTtl))
             .serializeKeysWith(
                 RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer())
             )
@@ -49,15 +102,15 @@ public class RedisCacheConfig {
             .disableCachingNullValues();
 
         Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
-
-        cacheConfigurations.put("projects", defaultConfig.entryTtl(Duration.ofMinutes(5)));
-
-        cacheConfigurations.put("tasks", defaultConfig.entryTtl(Duration.ofMinutes(2)));
+        CACHE_TTLS.forEach((name, ttl) -> cacheConfigurations.put(name, defaultConfig.entryTtl(ttl(ttl, negativeTtl))));
 
         return RedisCacheManager.builder(connectionFactory)
             .cacheDefaults(defaultConfig)
             .withInitialCacheConfigurations(cacheConfigurations)
-            .transactionAware()
             .build();
     }
+
+    private static RedisCacheWriter.TtlFunction ttl(Duration ttl, Duration negativeTtl) {
+        return (key, value) -> value == MissingValue.INSTANCE ? negativeTtl : ttl;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.sisinnov.pms.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+public class RedisCacheLoadLock implements CacheLoadLock {
+
+    private static final String KEY_PREFIX = "cache-load:";
+
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration leaseTime;
+
+    public RedisCacheLoadLock(StringRedisTemplate redisTemplate, Duration leaseTime) {
+        this.redisTemplate = redisTemplate;
+        this.leaseTime = leaseTime;
+    }
+
+    @Override
+    public String tryLock(String key) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + key, token, leaseTime);
+            return Boolean.TRUE.equals(acquired) ? token : null;
+        } catch (RuntimeException e) {
+            log.warn("CACHE: Load lock unavailable for {} - loading without it", key, e);
+            return "";
+        }
+    }
+
+    @Override
+    public void unlock(String key, String token) {
+        if (token == null || token.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(KEY_PREFIX + key), token);
+        } catch (RuntimeException e) {
+            log.warn("CACHE: Failed to release load lock for {} - it expires after {}", key, leaseTime, e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,70 @@
+package com.sisinnov.pms.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+public class ReplicaLagMonitor {
+
+    public static final String POSTGRES_LAG_QUERY =
+            "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+                    + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) END";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String lagQuery;
+    private final Duration maxLag;
+    private final AtomicBoolean replicaAvailable = new AtomicBoolean(false);
+    private final AtomicLong lagMillis = new AtomicLong(-1);
+
+    public ReplicaLagMonitor(DataSource replica, MeterRegistry meterRegistry, String lagQuery, Duration maxLag) {
+        this.jdbcTemplate = new JdbcTemplate(replica);
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+
+        Gauge.builder("datasource.replica.lag", lagMillis, AtomicLong::get)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.available", replicaAvailable, available -> available.get() ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval:PT5S}")
+    public void check() {
+        try {
+            Number lag = jdbcTemplate.queryForObject(lagQuery, Number.class);
+            long currentLag = lag == null ? 0 : lag.longValue();
+            lagMillis.set(currentLag);
+            update(currentLag <= maxLag.toMillis(), "lag " + currentLag + "ms");
+        } catch (Exception e) {
+            lagMillis.set(-1);
+            update(false, e.getMessage());
+        }
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable.get();
+    }
+
+    public void markUnavailable(String reason) {
+        update(false, reason);
+    }
+
+    private void update(boolean available, String reason) {
+        boolean previous = replicaAvailable.getAndSet(available);
+        if (previous != available) {
+            if (available) {
+                log.info("DATASOURCE: Replica available ({}), routing read-only transactions to replica", reason);
+            } else {
+                log.warn("DATASOURCE: Replica unavailable ({}), routing read-only transactions to primary", reason);
+            }
+        }
+    }
+}
\ No newline at end of file
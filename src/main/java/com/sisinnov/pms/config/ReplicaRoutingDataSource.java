@@ -0,0 +1,46 @@
+package com.sisinnov.pms.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final Counter replicaReads;
+    private final Counter primaryFallbackReads;
+
+    public ReplicaRoutingDataSource(
+            DataSource primary,
+            DataSource replica,
+            ReplicaLagMonitor replicaLagMonitor,
+            MeterRegistry meterRegistry) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.replicaReads = Counter.builder("datasource.routing.reads")
+                .tag("pool", ReadReplicaDataSourceConfig.REPLICA_POOL)
+                .register(meterRegistry);
+        this.primaryFallbackReads = Counter.builder("datasource.routing.reads")
+                .tag("pool", ReadReplicaDataSourceConfig.PRIMARY_POOL)
+                .register(meterRegistry);
+
+        setTargetDataSources(Map.of(
+                ReadReplicaDataSourceConfig.PRIMARY_POOL, primary,
+                ReadReplicaDataSourceConfig.REPLICA_POOL, replica
+        ));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicaLagMonitor.isReplicaAvailable()) {
+            replicaReads.increment();
+            return ReadReplicaDataSourceConfig.REPLICA_POOL;
+        }
+        primaryFallbackReads.increment();
+        return ReadReplicaDataSourceConfig.PRIMARY_POOL;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,407 @@
+package com.sisinnov.pms.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.sisinnov.pms.service.CacheKeys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.ToIntFunction;
+
+@Slf4j
+public class TwoLevelCache implements Cache {
+
+    private static final long REMOTE_POLL_MILLIS = 25;
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final Cache remote;
+    private final Duration timeToLive;
+    private final ToIntFunction<Object> entrySize;
+    private final double sizeSampleRate;
+    private final double earlyRefreshBeta;
+    private final Duration loadLockWait;
+    private final CacheLoadLock loadLock;
+    private final BiConsumer<String, String> invalidations;
+    private final Map<String, CompletableFuture<Object>> loads = new ConcurrentHashMap<>();
+    private final Map<String, FamilyMeters> families = new ConcurrentHashMap<>();
+    private final CacheKeyStats keyStats;
+    private final MeterRegistry meterRegistry;
+    private final Counter sourceLoads;
+    private final Counter coalescedLoads;
+    private final Counter earlyRefreshes;
+    private final Counter remoteWaitHits;
+
+    public TwoLevelCache(
+            String name,
+            Caffeine<Object, Object> localBuilder,
+            Cache remote,
+            Duration timeToLive,
+            ToIntFunction<Object> entrySize,
+            TwoLevelCacheSettings settings,
+            CacheLoadLock loadLock,
+            BiConsumer<String, String> invalidations,
+            MeterRegistry meterRegistry) {
+        this.name = name;
+        this.local = localBuilder
+                .<String, Object>evictionListener((key, value, cause) -> onLocalEviction(key, cause))
+                .build();
+        this.remote = remote;
+        this.timeToLive = timeToLive;
+        this.entrySize = entrySize;
+        this.sizeSampleRate = settings.sizeSampleRate();
+        this.earlyRefreshBeta = settings.earlyRefreshBeta();
+        this.loadLockWait = settings.loadLockWait();
+        this.loadLock = loadLock;
+        this.invalidations = invalidations;
+        this.keyStats = new CacheKeyStats(settings.keyStatsCapacity());
+        this.meterRegistry = meterRegistry;
+        this.sourceLoads = loads(meterRegistry, "load");
+        this.coalescedLoads = loads(meterRegistry, "coalesced");
+        this.earlyRefreshes = loads(meterRegistry, "early-refresh");
+        this.remoteWaitHits = loads(meterRegistry, "remote-wait");
+
+        Gauge.builder("cache.l1.size", this.local, com.github.benmanes.caffeine.cache.Cache::estimatedSize)
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        if (CacheKeys.UNCACHED.equals(key)) {
+            return null;
+        }
+        Object stored = lookup(key, localKey(key));
+        return stored != null ? new SimpleValueWrapper(unwrap(stored)) : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        if (CacheKeys.UNCACHED.equals(key)) {
+            try {
+                return valueLoader.call();
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+        }
+        String localKey = localKey(key);
+        Object stored = lookup(key, localKey);
+        if (stored != null) {
+            if (!(stored instanceof CachedValue cached) || !shouldRefreshEarly(cached)) {
+                return (T) unwrap(stored);
+            }
+            earlyRefreshes.increment();
+        }
+        return (T) loadOnce(key, localKey, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (CacheKeys.UNCACHED.equals(key)) {
+            return;
+        }
+        remote.put(key, value != null ? value : MissingValue.INSTANCE);
+        String localKey = localKey(key);
+        if (value != null) {
+            local.put(localKey, value);
+            sampleSize(localKey, value);
+        } else {
+            local.invalidate(localKey);
+        }
+        invalidations.accept(name, localKey);
+    }
+
+    @Override
+    public void evict(Object key) {
+        if (CacheKeys.UNCACHED.equals(key)) {
+            return;
+        }
+        remote.evict(key);
+        String localKey = localKey(key);
+        local.invalidate(localKey);
+        keyStats.remove(localKey);
+        meters(localKey).evictions("explicit").increment();
+        invalidations.accept(name, localKey);
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        keyStats.clear();
+        evictions("all", "clear").increment();
+        invalidations.accept(name, null);
+    }
+
+    public List<CacheKeyStats.KeyStat> hottestKeys(int limit) {
+        return keyStats.hottest(limit);
+    }
+
+    public List<CacheKeyStats.KeyStat> largestKeys(int limit) {
+        return keyStats.largest(limit);
+    }
+
+    public long localSize() {
+        return local.estimatedSize();
+    }
+
+    void evictLocal(String key) {
+        if (key == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(key);
+        }
+    }
+
+    private Object lookup(Object key, String localKey) {
+        FamilyMeters meters = meters(localKey);
+        Object value = local.getIfPresent(localKey);
+        if (value != null) {
+            meters.localHits.increment();
+            keyStats.recordHit(localKey);
+            return value;
+        }
+        meters.localMisses.increment();
+
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper == null || wrapper.get() == null) {
+            meters.remoteMisses.increment();
+            return null;
+        }
+        meters.remoteHits.increment();
+        keyStats.recordHit(localKey);
+        if (wrapper.get() != MissingValue.INSTANCE) {
+            local.put(localKey, wrapper.get());
+        }
+        return wrapper.get();
+    }
+
+    private boolean shouldRefreshEarly(CachedValue cached) {
+        if (earlyRefreshBeta <= 0 || cached.computeMillis() <= 0) {
+            return false;
+        }
+        double gap = -cached.computeMillis() * earlyRefreshBeta * Math.log(ThreadLocalRandom.current().nextDouble());
+        return System.currentTimeMillis() + gap >= cached.expiresAt();
+    }
+
+    private Object loadOnce(Object key, String localKey, Callable<?> valueLoader) {
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = loads.putIfAbsent(localKey, load);
+        if (inFlight != null) {
+            coalescedLoads.increment();
+            return await(key, valueLoader, inFlight);
+        }
+
+        try {
+            Object value = loadAcrossNodes(key, localKey, valueLoader);
+            load.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loads.remove(localKey, load);
+        }
+    }
+
+    private Object loadAcrossNodes(Object key, String localKey, Callable<?> valueLoader) {
+        String lockKey = name + ":" + localKey;
+        String token = loadLock.tryLock(lockKey);
+        if (token == null) {
+            Object value = awaitRemote(key, localKey);
+            if (value != null) {
+                remoteWaitHits.increment();
+                return value;
+            }
+        }
+
+        try {
+            long started = System.nanoTime();
+            Object value;
+            try {
+                value = valueLoader.call();
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+            sourceLoads.increment();
+
+            long computeNanos = System.nanoTime() - started;
+            meters(localKey).loadTime.record(computeNanos, TimeUnit.NANOSECONDS);
+
+            if (value != null) {
+                CachedValue cached = new CachedValue(value, TimeUnit.NANOSECONDS.toMillis(computeNanos),
+                        System.currentTimeMillis() + timeToLive.toMillis());
+                remote.put(key, cached);
+                local.put(localKey, cached);
+                sampleSize(localKey, cached);
+            } else {
+                remote.put(key, MissingValue.INSTANCE);
+            }
+            return value;
+        } finally {
+            loadLock.unlock(lockKey, token);
+        }
+    }
+
+    private Object awaitRemote(Object key, String localKey) {
+        long deadline = System.nanoTime() + loadLockWait.toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(REMOTE_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            ValueWrapper wrapper = remote.get(key);
+            if (wrapper != null && wrapper.get() != null && wrapper.get() != MissingValue.INSTANCE) {
+                local.put(localKey, wrapper.get());
+                return unwrap(wrapper.get());
+            }
+        }
+        return null;
+    }
+
+    private static Object await(Object key, Callable<?> valueLoader, CompletableFuture<Object> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        }
+    }
+
+    private static Object unwrap(Object stored) {
+        if (stored == MissingValue.INSTANCE) {
+            return null;
+        }
+        return stored instanceof CachedValue cached ? cached.value() : stored;
+    }
+
+    private void sampleSize(String localKey, Object value) {
+        if (sizeSampleRate <= 0 || ThreadLocalRandom.current().nextDouble() >= sizeSampleRate) {
+            return;
+        }
+        try {
+            int bytes = entrySize.applyAsInt(value);
+            meters(localKey).entrySize.record(bytes);
+            keyStats.recordSize(localKey, bytes);
+        } catch (RuntimeException e) {
+            log.debug("CACHE: Could not measure entry size for {}:{}", name, localKey, e);
+        }
+    }
+
+    private void onLocalEviction(String localKey, RemovalCause cause) {
+        if (localKey != null) {
+            meters(localKey).evictions(cause == RemovalCause.EXPIRED ? "expired" : "size").increment();
+        }
+    }
+
+    private FamilyMeters meters(String localKey) {
+        return families.computeIfAbsent(CacheKeyStats.family(localKey), FamilyMeters::new);
+    }
+
+    private Counter evictions(String family, String cause) {
+        return Counter.builder("cache.evictions")
+                .tag("cache", name)
+                .tag("family", family)
+                .tag("cause", cause)
+                .register(meterRegistry);
+    }
+
+    private Counter loads(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("cache.loads")
+                .tag("cache", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private final class FamilyMeters {
+
+        private final String family;
+        private final Counter localHits;
+        private final Counter localMisses;
+        private final Counter remoteHits;
+        private final Counter remoteMisses;
+        private final Timer loadTime;
+        private final DistributionSummary entrySize;
+
+        private FamilyMeters(String family) {
+            this.family = family;
+            this.localHits = requests("l1", "hit");
+            this.localMisses = requests("l1", "miss");
+            this.remoteHits = requests("l2", "hit");
+            this.remoteMisses = requests("l2", "miss");
+            this.loadTime = Timer.builder("cache.load")
+                    .tag("cache", name)
+                    .tag("family", family)
+                    .publishPercentiles(0.5, 0.99)
+                    .register(meterRegistry);
+            this.entrySize = DistributionSummary.builder("cache.entry.size")
+                    .baseUnit("bytes")
+                    .tag("cache", name)
+                    .tag("family", family)
+                    .register(meterRegistry);
+        }
+
+        private Counter evictions(String cause) {
+            return TwoLevelCache.this.evictions(family, cause);
+        }
+
+        private Counter requests(String level, String result) {
+            return Counter.builder("cache.requests")
+                    .tag("cache", name)
+                    .tag("family", family)
+                    .tag("level", level)
+                    .tag("result", result)
+                    .register(meterRegistry);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,111 @@
+package com.sisinnov.pms.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+@Slf4j
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager implements MessageListener {
+
+    private static final String SEPARATOR = "\n";
+
+    private final CacheManager remote;
+    private final Consumer<String> publisher;
+    private final MeterRegistry meterRegistry;
+    private final Function<String, Duration> timeToLive;
+    private final ToIntFunction<Object> entrySize;
+    private final TwoLevelCacheSettings settings;
+    private final CacheLoadLock loadLock;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(
+            CacheManager remote,
+            Consumer<String> publisher,
+            MeterRegistry meterRegistry,
+            Function<String, Duration> timeToLive,
+            ToIntFunction<Object> entrySize,
+            TwoLevelCacheSettings settings,
+            CacheLoadLock loadLock) {
+        this.remote = remote;
+        this.publisher = publisher;
+        this.meterRegistry = meterRegistry;
+        this.timeToLive = timeToLive;
+        this.entrySize = entrySize;
+        this.settings = settings;
+        this.loadLock = loadLock;
+        setTransactionAware(true);
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return remote.getCacheNames().stream()
+                .map(this::getMissingCache)
+                .toList();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        Cache remoteCache = remote.getCache(name);
+        if (remoteCache == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, cacheName -> new TwoLevelCache(
+                cacheName,
+                Caffeine.newBuilder()
+                        .maximumSize(settings.localMaximumSize())
+                        .expireAfterWrite(settings.localExpireAfterWrite()),
+                remoteCache,
+                timeToLive.apply(cacheName),
+                entrySize,
+                settings,
+                loadLock,
+                this::publish,
+                meterRegistry
+        ));
+    }
+
+    public Map<String, TwoLevelCache> caches() {
+        return Map.copyOf(caches);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 3);
+        if (parts.length < 2 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        TwoLevelCache cache = caches.get(parts[1]);
+        if (cache != null) {
+            cache.evictLocal(parts.length == 3 ? parts[2] : null);
+        }
+    }
+
+    private void publish(String cacheName, String key) {
+        String message = key == null
+                ? nodeId + SEPARATOR + cacheName
+                : nodeId + SEPARATOR + cacheName + SEPARATOR + key;
+        try {
+            publisher.accept(message);
+        } catch (RuntimeException e) {
+            log.warn("CACHE: Failed to publish invalidation for {}:{} - peers expire it after {}",
+                    cacheName, key, settings.localExpireAfterWrite(), e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.sisinnov.pms.config;
+
+import java.time.Duration;
+
+public record TwoLevelCacheSettings(
+        long localMaximumSize,
+        Duration localExpireAfterWrite,
+        double earlyRefreshBeta,
+        Duration loadLockWait,
+        double sizeSampleRate,
+        int keyStatsCapacity) {
+}
\ No newline at end of file
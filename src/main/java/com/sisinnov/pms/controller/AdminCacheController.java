@@ -0,0 +1,62 @@
+package com.sisinnov.pms.controller;
+
+import com.sisinnov.pms.dto.response.CacheKeyResponse;
+import com.sisinnov.pms.dto.response.CacheStatsResponse;
+import com.sisinnov.pms.service.CacheInspectionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/admin/caches")
+@RequiredArgsConstructor
+@Tag(name = "Admin - Caches", description = "Endpoints administrativos para inspeção dos caches")
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminCacheController {
+
+    private static final int MAX_KEYS = 200;
+
+    private final CacheInspectionService cacheInspectionService;
+
+    @GetMapping
+    @Operation(
+            summary = "Estatísticas dos caches",
+            description = "Retorna, por cache e família de chave (id, list, count, project...), hits em L1/L2, misses e hit ratio. Use para ajustar TTLs."
+    )
+    public ResponseEntity<List<CacheStatsResponse>> getCacheStats() {
+        log.info("ADMIN: Fetching cache statistics");
+
+        return ResponseEntity.ok(cacheInspectionService.stats());
+    }
+
+    @GetMapping("/{cacheName}/keys")
+    @Operation(
+            summary = "Chaves mais lidas ou maiores de um cache",
+            description = "Retorna as chaves com mais hits (hottest) ou maior tamanho serializado amostrado (largest)."
+    )
+    public ResponseEntity<List<CacheKeyResponse>> getCacheKeys(
+            @Parameter(description = "Nome do cache (projects, tasks, ...)")
+            @PathVariable String cacheName,
+
+            @Parameter(description = "Ordenação: hottest ou largest")
+            @RequestParam(defaultValue = CacheInspectionService.HOTTEST) String order,
+
+            @Parameter(description = "Quantidade máxima de chaves a retornar (máx. 200)")
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        log.info("ADMIN: Fetching {} {} keys of cache {}", limit, order, cacheName);
+
+        List<CacheKeyResponse> keys = cacheInspectionService.keys(cacheName, order, Math.max(1, Math.min(limit, MAX_KEYS)));
+
+        log.debug("ADMIN: Found {} keys in cache {}", keys.size(), cacheName);
+        return ResponseEntity.ok(keys);
+    }
+}
\ No newline at end of file
@@ -1,11 +1,21 @@
 package com.sisinnov.pms.controller;
 
+import com.sisinnov.pms.controller.support.ConditionalRequests;
+import com.sisinnov.pms.dto.request.AddProjectMemberRequest;
 import com.sisinnov.pms.dto.request.CreateProjectRequest;
 import com.sisinnov.pms.dto.request.UpdateProjectRequest;
+import com.sisinnov.pms.dto.response.CursorPage;
 import com.sisinnov.pms.dto.response.ProjectResponse;
+import com.sisinnov.pms.dto.response.ProjectSummaryResponse;
+import com.sisinnov.pms.exception.ResourceNotFoundException;
+import com.sisinnov.pms.repository.projection.ProjectField;
+import com.sisinnov.pms.security.CurrentUser;
+import com.sisinnov.pms.service.CacheWarmupService;
+import com.sisinnov.pms.service.ResourceVersionService;
 import com.sisinnov.pms.service.command.ProjectCommandService;
 import com.sisinnov.pms.service.query.ProjectQueryService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -17,10 +27,14 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -30,8 +44,13 @@ import java.util.UUID;
 @SecurityRequirement(name = "bearerAuth")
 public class ProjectController {
 
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final ProjectCommandService commandService;
     private final ProjectQueryService queryService;
+    private final ConditionalRequests conditionalRequests;
+    private final CurrentUser currentUser;
+    private final CacheWarmupService cacheWarmup;
 
 
     @PostMapping
@@ -80,20 +99,114 @@ public class ProjectController {
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping("/{id}/members")
+    @PreAuthorize("hasRole('ADMIN') or @projectAccess.isMember(#id)")
+    @Operation(summary = "Add project member", description = "COMMAND: Adds a user to the project members")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Member added successfully"),
+            @ApiResponse(responseCode = "404", description = "Project or user not found"),
+            @ApiResponse(responseCode = "400", description = "Invalid input"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Not a member of the project")
+    })
+    public ResponseEntity<Void> addMember(
+            @PathVariable UUID id,
+            @Valid @RequestBody AddProjectMemberRequest request) {
+        commandService.addMember(id, request.userId());
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/{id}/members/{userId}")
+    @PreAuthorize("hasRole('ADMIN') or @projectAccess.isMember(#id)")
+    @Operation(summary = "Remove project member", description = "COMMAND: Removes a user from the project members")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Member removed successfully"),
+            @ApiResponse(responseCode = "404", description = "Membership not found"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Not a member of the project")
+    })
+    public ResponseEntity<Void> removeMember(@PathVariable UUID id, @PathVariable UUID userId) {
+        commandService.removeMember(id, userId);
+        return ResponseEntity.noContent().build();
+    }
+
 
     @GetMapping
-    @Operation(summary = "List all projects with pagination", description = "QUERY: Returns all projects with optional filters and pagination")
+    @Operation(summary = "List all projects with pagination", description = "QUERY: Returns projects filtered by name substring and/or prefix, with pagination")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Projects retrieved successfully"),
             @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     public ResponseEntity<Page<ProjectResponse>> findAll(
-            @RequestParam(required = false) String name,
-            @PageableDefault(size = 20, sort = "name", direction = Sort.Direction.ASC) Pageable pageable) {
-        Page<ProjectResponse> projects = queryService.findAll(null, name, pageable);
+            @Parameter(description = "Case-insensitive substring of the project name") @RequestParam(required = false) String name,
+            @Parameter(description = "Case-insensitive prefix of the project name") @RequestParam(required = false) String namePrefix,
+            @PageableDefault(size = 20, sort = "name", direction = Sort.Direction.ASC) Pageable pageable,
+            WebRequest request) {
+        if (conditionalRequests.listNotModified(request, ResourceVersionService.PROJECTS)) {
+            return null;
+        }
+
+        Page<ProjectResponse> projects = queryService.findAll(null, name, namePrefix, pageable);
+        if (name == null && namePrefix == null && projects.hasContent()) {
+            cacheWarmup.recordProjectPage(pageable);
+        }
         return ResponseEntity.ok(projects);
     }
 
+    @GetMapping("/mine")
+    @Operation(summary = "List my projects", description = "QUERY: Returns the projects the current user is a member of, continued through a keyset cursor over the membership index (pages cached per user)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Projects retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<CursorPage<ProjectResponse>> findMine(
+            @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 200)") @RequestParam(defaultValue = "20") int size) {
+        UUID userId = currentUser.id()
+                .orElseThrow(() -> new ResourceNotFoundException("Current user not found"));
+
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        return ResponseEntity.ok(queryService.findByUserId(userId, cursor, pageSize));
+    }
+
+    @GetMapping(params = "fields")
+    @Operation(summary = "List selected project fields", description = "QUERY: Returns only the requested fields of each project, filtered by name substring and/or prefix, reading only their columns")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Projects retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Unknown field"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<Page<Map<String, Object>>> findAllFields(
+            @Parameter(description = "Comma-separated fields to return, e.g. id,name") @RequestParam String fields,
+            @Parameter(description = "Case-insensitive substring of the project name") @RequestParam(required = false) String name,
+            @Parameter(description = "Case-insensitive prefix of the project name") @RequestParam(required = false) String namePrefix,
+            @PageableDefault(size = 20, sort = "name", direction = Sort.Direction.ASC) Pageable pageable,
+            WebRequest request) {
+        if (conditionalRequests.listNotModified(request, ResourceVersionService.PROJECTS)) {
+            return null;
+        }
+
+        Page<Map<String, Object>> projects = queryService.findAllFields(name, namePrefix, ProjectField.parse(fields), pageable);
+        return ResponseEntity.ok(projects);
+    }
+
+    @GetMapping(value = "/{id}", params = "fields")
+    @Operation(summary = "Get selected project fields by ID", description = "QUERY: Returns only the requested fields of a project")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Project found"),
+            @ApiResponse(responseCode = "400", description = "Unknown field"),
+            @ApiResponse(responseCode = "404", description = "Project not found"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<Map<String, Object>> findFieldsById(
+            @PathVariable UUID id,
+            @Parameter(description = "Comma-separated fields to return, e.g. id,name") @RequestParam String fields) {
+        return queryService.findFieldsById(id, ProjectField.parse(fields))
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get project by ID", description = "QUERY: Returns a project by its ID (cached)")
     @ApiResponses(value = {
@@ -101,19 +214,41 @@ public class ProjectController {
             @ApiResponse(responseCode = "404", description = "Project not found"),
             @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
-    public ResponseEntity<ProjectResponse> findById(@PathVariable UUID id) {
-        return queryService.findById(id)
+    public ResponseEntity<ProjectResponse> findById(@PathVariable UUID id, WebRequest request) {
+        Optional<ProjectResponse> project = queryService.findById(id);
+        project.ifPresent(found -> cacheWarmup.recordProject(id));
+        if (project.isPresent() && conditionalRequests.itemNotModified(
+                request, id, project.get().updatedAt(), project.get().taskCount())) {
+            return null;
+        }
+
+        return project
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @GetMapping("/{id}/summary")
+    @Operation(summary = "Get project dashboard summary", description = "QUERY: Returns task counts by status and priority, overdue count and next due tasks (cached per project)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Summary computed successfully"),
+            @ApiResponse(responseCode = "404", description = "Project not found"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<ProjectSummaryResponse> findSummary(@PathVariable UUID id) {
+        return ResponseEntity.ok(queryService.findSummary(id));
+    }
+
     @GetMapping("/count")
     @Operation(summary = "Count projects", description = "QUERY: Returns total count of projects")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Count retrieved successfully"),
             @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
-    public ResponseEntity<Long> count() {
+    public ResponseEntity<Long> count(WebRequest request) {
+        if (conditionalRequests.listNotModified(request, ResourceVersionService.PROJECTS)) {
+            return null;
+        }
+
         long count = queryService.count(null);
         return ResponseEntity.ok(count);
     }
@@ -1,12 +1,22 @@
 package com.sisinnov.pms.controller;
 
+import com.sisinnov.pms.controller.support.ConditionalRequests;
+import com.sisinnov.pms.dto.request.BulkUpdateTaskStatusRequest;
+import com.sisinnov.pms.dto.request.CreateTaskBatchRequest;
 import com.sisinnov.pms.dto.request.CreateTaskRequest;
 import com.sisinnov.pms.dto.request.UpdateTaskRequest;
 import com.sisinnov.pms.dto.request.UpdateTaskStatusRequest;
+import com.sisinnov.pms.dto.response.BulkStatusUpdateResponse;
+import com.sisinnov.pms.dto.response.CursorPage;
+import com.sisinnov.pms.dto.response.TaskDueBucketsResponse;
 import com.sisinnov.pms.dto.response.TaskResponse;
 import com.sisinnov.pms.enums.TaskPriority;
 import com.sisinnov.pms.enums.TaskStatus;
+import com.sisinnov.pms.repository.projection.TaskField;
+import com.sisinnov.pms.service.CacheWarmupService;
+import com.sisinnov.pms.service.ResourceVersionService;
 import com.sisinnov.pms.service.command.TaskCommandService;
+import com.sisinnov.pms.service.query.TaskExportService;
 import com.sisinnov.pms.service.query.TaskQueryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,14 +24,22 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
 import java.net.URI;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -31,8 +49,14 @@ import java.util.UUID;
 @SecurityRequirement(name = "bearerAuth")
 public class TaskController {
 
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final String NDJSON = "application/x-ndjson";
+
     private final TaskCommandService commandService;
     private final TaskQueryService queryService;
+    private final TaskExportService exportService;
+    private final ConditionalRequests conditionalRequests;
+    private final CacheWarmupService cacheWarmup;
 
 
     @PostMapping
@@ -55,6 +79,19 @@ public class TaskController {
         return ResponseEntity.created(location).body(response);
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "Create tasks in batch", description = "COMMAND: Creates up to 1000 tasks in one transaction, validating each referenced project once")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Tasks created successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid input"),
+            @ApiResponse(responseCode = "404", description = "Project not found"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<List<TaskResponse>> createBatch(@Valid @RequestBody CreateTaskBatchRequest request) {
+        List<TaskResponse> response = commandService.createBatch(request.tasks());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Update task", description = "COMMAND: Updates an existing task")
     @ApiResponses(value = {
@@ -76,13 +113,33 @@ public class TaskController {
             @ApiResponse(responseCode = "200", description = "Task status updated successfully"),
             @ApiResponse(responseCode = "400", description = "Invalid input or task is deleted"),
             @ApiResponse(responseCode = "404", description = "Task not found"),
+            @ApiResponse(responseCode = "409", description = "Task is not in the expected status"),
+            @ApiResponse(responseCode = "412", description = "Task version does not match If-Match"),
             @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     public ResponseEntity<TaskResponse> updateStatus(
             @PathVariable UUID id,
+            @Parameter(description = "ETag of the task version the change is based on") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody UpdateTaskStatusRequest request
     ) {
-        TaskResponse response = commandService.updateStatus(id, request.status());
+        TaskResponse response = commandService.updateStatus(
+                id, request.status(), request.expectedStatus(), ConditionalRequests.expectedVersion(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(ConditionalRequests.versionETag(response.version(), response.projectName()))
+                .body(response);
+    }
+
+    @PutMapping("/status")
+    @Operation(summary = "Update status of many tasks", description = "COMMAND: Moves up to 1000 tasks to the given status with a single UPDATE")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Statuses updated; unknown or deleted tasks are reported in notFound"),
+            @ApiResponse(responseCode = "400", description = "Invalid input"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<BulkStatusUpdateResponse> updateStatusBatch(
+            @Valid @RequestBody BulkUpdateTaskStatusRequest request
+    ) {
+        BulkStatusUpdateResponse response = commandService.updateStatusBatch(request.taskIds(), request.status());
         return ResponseEntity.ok(response);
     }
 
@@ -108,12 +165,136 @@ public class TaskController {
     public ResponseEntity<List<TaskResponse>> findAll(
             @Parameter(description = "Filter by task status") @RequestParam(required = false) TaskStatus status,
             @Parameter(description = "Filter by task priority") @RequestParam(required = false) TaskPriority priority,
-            @Parameter(description = "Filter by project ID") @RequestParam(required = false) UUID projectId
+            @Parameter(description = "Filter by project ID") @RequestParam(required = false) UUID projectId,
+            WebRequest request
     ) {
+        if (conditionalRequests.listNotModified(request, ResourceVersionService.TASKS)) {
+            return null;
+        }
+
         List<TaskResponse> tasks = queryService.findAll(status, priority, projectId);
+        if (status == null && priority == null && projectId != null && !tasks.isEmpty()) {
+            cacheWarmup.recordProjectTasks(projectId);
+        }
+        return ResponseEntity.ok(tasks);
+    }
+
+    @GetMapping(params = "fields")
+    @Operation(summary = "List selected task fields", description = "QUERY: Returns only the requested fields of the filtered tasks, reading only their columns")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Unknown field"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<List<Map<String, Object>>> findAllFields(
+            @Parameter(description = "Filter by task status") @RequestParam(required = false) TaskStatus status,
+            @Parameter(description = "Filter by task priority") @RequestParam(required = false) TaskPriority priority,
+            @Parameter(description = "Filter by project ID") @RequestParam(required = false) UUID projectId,
+            @Parameter(description = "Comma-separated fields to return, e.g. id,title,status") @RequestParam String fields,
+            WebRequest request
+    ) {
+        if (conditionalRequests.listNotModified(request, ResourceVersionService.TASKS)) {
+            return null;
+        }
+
+        List<Map<String, Object>> tasks = queryService.findAllFields(status, priority, projectId, TaskField.parse(fields));
+        return ResponseEntity.ok(tasks);
+    }
+
+    @GetMapping("/scroll")
+    @Operation(summary = "List tasks with cursor pagination", description = "QUERY: Returns a page of tasks ordered by creation date, continued through an opaque cursor (cached)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<CursorPage<TaskResponse>> scroll(
+            @Parameter(description = "Filter by task status") @RequestParam(required = false) TaskStatus status,
+            @Parameter(description = "Filter by task priority") @RequestParam(required = false) TaskPriority priority,
+            @Parameter(description = "Filter by project ID") @RequestParam(required = false) UUID projectId,
+            @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 200)") @RequestParam(defaultValue = "50") int size,
+            WebRequest request
+    ) {
+        if (conditionalRequests.listNotModified(request, ResourceVersionService.TASKS)) {
+            return null;
+        }
+
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        CursorPage<TaskResponse> page = queryService.findPage(status, priority, projectId, cursor, pageSize);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search tasks", description = "QUERY: Returns tasks whose title or description match the query, best matches first (cached)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Search completed successfully"),
+            @ApiResponse(responseCode = "400", description = "Blank query"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<List<TaskResponse>> search(
+            @Parameter(description = "Search terms") @RequestParam String q,
+            @Parameter(description = "Restrict to project ID") @RequestParam(required = false) UUID projectId,
+            @Parameter(description = "Maximum results (max 200)") @RequestParam(defaultValue = "20") int limit,
+            WebRequest request
+    ) {
+        if (conditionalRequests.listNotModified(request, ResourceVersionService.TASKS)) {
+            return null;
+        }
+
+        int maxResults = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<TaskResponse> tasks = queryService.search(q, projectId, maxResults);
+        return ResponseEntity.ok(tasks);
+    }
+
+    @GetMapping("/due-soon")
+    @Operation(summary = "List tasks due soon", description = "QUERY: Returns open tasks due within the next 7 days, earliest first (cached)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<List<TaskResponse>> findDueSoon(
+            @Parameter(description = "Filter by project ID") @RequestParam(required = false) UUID projectId,
+            WebRequest request
+    ) {
+        if (conditionalRequests.listNotModified(request, ResourceVersionService.TASKS, LocalDate.now())) {
+            return null;
+        }
+
+        List<TaskResponse> tasks = queryService.findDueSoon(projectId);
         return ResponseEntity.ok(tasks);
     }
 
+    @GetMapping("/due-buckets")
+    @Operation(summary = "Get due date buckets of a project", description = "QUERY: Returns overdue and due-this-week open tasks of a project, precomputed by a background job")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Buckets retrieved successfully"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<TaskDueBucketsResponse> findDueBuckets(
+            @Parameter(description = "Project ID") @RequestParam UUID projectId
+    ) {
+        TaskDueBucketsResponse buckets = queryService.findDueBuckets(projectId);
+        return ResponseEntity.ok(buckets);
+    }
+
+    @GetMapping(value = "/export", produces = NDJSON)
+    @Operation(summary = "Export tasks as NDJSON", description = "QUERY: Streams tasks as newline-delimited JSON, one task per line, without buffering the result set")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export streamed successfully"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public void export(
+            @Parameter(description = "Filter by task status") @RequestParam(required = false) TaskStatus status,
+            @Parameter(description = "Filter by task priority") @RequestParam(required = false) TaskPriority priority,
+            @Parameter(description = "Filter by project ID") @RequestParam(required = false) UUID projectId,
+            HttpServletResponse response
+    ) throws IOException {
+        response.setContentType(NDJSON);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks.ndjson\"");
+        exportService.exportNdjson(status, priority, projectId, response.getOutputStream());
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get task by ID", description = "QUERY: Returns a task by its ID (cached)")
     @ApiResponses(value = {
@@ -121,8 +302,32 @@ public class TaskController {
             @ApiResponse(responseCode = "404", description = "Task not found"),
             @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
-    public ResponseEntity<TaskResponse> findById(@PathVariable UUID id) {
-        return queryService.findById(id)
+    public ResponseEntity<TaskResponse> findById(@PathVariable UUID id, WebRequest request) {
+        Optional<TaskResponse> task = queryService.findById(id);
+        task.ifPresent(found -> cacheWarmup.recordTask(id));
+        if (task.isPresent() && conditionalRequests.versionedItemNotModified(
+                request, task.get().version(), task.get().updatedAt(), task.get().projectName())) {
+            return null;
+        }
+
+        return task
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(value = "/{id}", params = "fields")
+    @Operation(summary = "Get selected task fields by ID", description = "QUERY: Returns only the requested fields of a task")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Task found"),
+            @ApiResponse(responseCode = "400", description = "Unknown field"),
+            @ApiResponse(responseCode = "404", description = "Task not found"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<Map<String, Object>> findFieldsById(
+            @PathVariable UUID id,
+            @Parameter(description = "Comma-separated fields to return, e.g. id,title,status") @RequestParam String fields
+    ) {
+        return queryService.findFieldsById(id, TaskField.parse(fields))
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -135,7 +340,13 @@ public class TaskController {
     })
     public ResponseEntity<Long> count(
             @RequestParam(required = false) TaskStatus status,
-            @RequestParam(required = false) UUID projectId) {
+            @RequestParam(required = false) UUID projectId,
+            WebRequest request
+    ) {
+        if (conditionalRequests.listNotModified(request, ResourceVersionService.TASKS)) {
+            return null;
+        }
+
         long count = queryService.count(status, projectId);
         return ResponseEntity.ok(count);
     }
@@ -0,0 +1,91 @@
+package com.sisinnov.pms.controller.support;
+
+import com.sisinnov.pms.exception.BusinessException;
+import com.sisinnov.pms.exception.PreconditionFailedException;
+import com.sisinnov.pms.service.ResourceVersionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class ConditionalRequests {
+
+    private final ResourceVersionService versionService;
+
+    public boolean listNotModified(WebRequest request, String resource) {
+        return listNotModified(request, resource, null);
+    }
+
+    public boolean listNotModified(WebRequest request, String resource, Object derivedState) {
+        OptionalLong version = versionService.current(resource);
+        if (version.isEmpty()) {
+            return false;
+        }
+
+        String etag = resource + "-" + version.getAsLong() + "-" + requestDigest(request, derivedState);
+        return request.checkNotModified(etag);
+    }
+
+    public boolean itemNotModified(WebRequest request, UUID id, LocalDateTime updatedAt, Object derivedState) {
+        if (updatedAt == null) {
+            return false;
+        }
+
+        long lastModified = updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        String etag = id + "-" + lastModified + "-" + updatedAt.getNano()
+                + "-" + Integer.toHexString(String.valueOf(derivedState).hashCode());
+        return request.checkNotModified(etag, lastModified);
+    }
+
+    public boolean versionedItemNotModified(WebRequest request, long version, LocalDateTime updatedAt, Object derivedState) {
+        long lastModified = updatedAt != null
+                ? updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : -1;
+        return request.checkNotModified(versionETag(version, derivedState), lastModified);
+    }
+
+    public static String versionETag(long version, Object derivedState) {
+        return "\"" + version + "-" + Integer.toHexString(String.valueOf(derivedState).hashCode()) + "\"";
+    }
+
+    public static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            throw new PreconditionFailedException("If-Match requires a strong ETag: " + ifMatch);
+        }
+        tag = tag.replace("\"", "");
+
+        int separator = tag.indexOf('-');
+        String version = separator >= 0 ? tag.substring(0, separator) : tag;
+        try {
+            return Long.parseLong(version);
+        } catch (NumberFormatException e) {
+            throw new BusinessException("Invalid If-Match header: " + ifMatch);
+        }
+    }
+
+    private static String requestDigest(WebRequest request, Object derivedState) {
+        Principal principal = request.getUserPrincipal();
+        StringBuilder canonical = new StringBuilder()
+                .append(principal != null ? principal.getName() : "").append('|')
+                .append(derivedState != null ? derivedState : "").append('|');
+        new TreeMap<>(request.getParameterMap()).forEach((name, values) ->
+                canonical.append(name).append('=').append(Arrays.toString(values)).append('&'));
+        return DigestUtils.md5DigestAsHex(canonical.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
\ No newline at end of file
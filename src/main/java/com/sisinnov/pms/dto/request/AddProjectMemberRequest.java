@@ -0,0 +1,11 @@
+package com.sisinnov.pms.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
+public record AddProjectMemberRequest(
+    @NotNull(message = "User ID is required")
+    UUID userId
+) {
+}
\ No newline at end of file
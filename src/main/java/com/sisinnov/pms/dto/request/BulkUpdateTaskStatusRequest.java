@@ -0,0 +1,18 @@
+package com.sisinnov.pms.dto.request;
+
+import com.sisinnov.pms.enums.TaskStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BulkUpdateTaskStatusRequest(
+    @NotEmpty(message = "At least one task ID is required")
+    @Size(max = 1000, message = "At most 1000 tasks can be updated at once")
+    List<@NotNull UUID> taskIds,
+
+    @NotNull(message = "Task status is required")
+    TaskStatus status
+) {}
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.sisinnov.pms.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record CreateTaskBatchRequest(
+    @NotEmpty(message = "At least one task is required")
+    @Size(max = 1000, message = "A batch can contain at most 1000 tasks")
+    List<@Valid CreateTaskRequest> tasks
+) {}
\ No newline at end of file
@@ -5,5 +5,12 @@ import jakarta.validation.constraints.NotNull;
 
 public record UpdateTaskStatusRequest(
     @NotNull(message = "Task status is required")
-    TaskStatus status
-) {}
\ No newline at end of file
+    TaskStatus status,
+
+    TaskStatus expectedStatus
+) {
+
+    public UpdateTaskStatusRequest(TaskStatus status) {
+        this(status, null);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.sisinnov.pms.dto.response;
+
+import com.sisinnov.pms.enums.TaskStatus;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BulkStatusUpdateResponse(
+        TaskStatus status,
+        List<UUID> updated,
+        List<UUID> unchanged,
+        List<UUID> notFound
+) {
+}
\ No newline at end of file
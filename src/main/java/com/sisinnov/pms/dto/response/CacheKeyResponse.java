@@ -0,0 +1,9 @@
+package com.sisinnov.pms.dto.response;
+
+public record CacheKeyResponse(
+        String key,
+        String family,
+        long hits,
+        Integer sizeBytes
+) {
+}
\ No newline at end of file
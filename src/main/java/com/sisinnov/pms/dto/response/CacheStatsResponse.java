@@ -0,0 +1,19 @@
+package com.sisinnov.pms.dto.response;
+
+import java.util.List;
+
+public record CacheStatsResponse(
+        String name,
+        Long localEntries,
+        List<FamilyStats> families
+) {
+
+    public record FamilyStats(
+            String family,
+            long localHits,
+            long remoteHits,
+            long misses,
+            double hitRatio
+    ) {
+    }
+}
\ No newline at end of file
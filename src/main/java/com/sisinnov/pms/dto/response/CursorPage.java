@@ -0,0 +1,14 @@
+package com.sisinnov.pms.dto.response;
+
+import java.util.List;
+
+public record CursorPage<T>(
+        List<T> items,
+        String nextCursor,
+        boolean hasNext,
+        int size
+) {
+    public static <T> CursorPage<T> of(List<T> items, String nextCursor) {
+        return new CursorPage<>(items, nextCursor, nextCursor != null, items.size());
+    }
+}
\ No newline at end of file
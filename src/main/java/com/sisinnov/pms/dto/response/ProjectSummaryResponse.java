@@ -0,0 +1,21 @@
+package com.sisinnov.pms.dto.response;
+
+import com.sisinnov.pms.enums.TaskPriority;
+import com.sisinnov.pms.enums.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public record ProjectSummaryResponse(
+        UUID projectId,
+        String projectName,
+        long totalTasks,
+        long overdueCount,
+        Map<TaskStatus, Long> countsByStatus,
+        Map<TaskStatus, Map<TaskPriority, Long>> countsByStatusAndPriority,
+        List<TaskResponse> nextDueTasks,
+        LocalDateTime computedAt
+) {
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.sisinnov.pms.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public record TaskDueBucketsResponse(
+        UUID projectId,
+        long overdueCount,
+        long dueThisWeekCount,
+        List<TaskDueItemResponse> overdue,
+        List<TaskDueItemResponse> dueThisWeek,
+        LocalDateTime computedAt
+) {
+
+    public static TaskDueBucketsResponse empty(UUID projectId, LocalDateTime computedAt) {
+        return new TaskDueBucketsResponse(projectId, 0, 0, List.of(), List.of(), computedAt);
+    }
+}
\ No newline at end of file
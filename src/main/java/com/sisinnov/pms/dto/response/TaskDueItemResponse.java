@@ -0,0 +1,17 @@
+package com.sisinnov.pms.dto.response;
+
+import com.sisinnov.pms.enums.TaskPriority;
+import com.sisinnov.pms.enums.TaskStatus;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record TaskDueItemResponse(
+        UUID id,
+        String title,
+        TaskStatus status,
+        TaskPriority priority,
+        LocalDate dueDate,
+        UUID projectId
+) {
+}
\ No newline at end of file
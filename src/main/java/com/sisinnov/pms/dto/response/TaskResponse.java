@@ -17,6 +17,7 @@ public record TaskResponse(
         UUID projectId,
         String projectName,
         LocalDateTime createdAt,
-        LocalDateTime updatedAt
+        LocalDateTime updatedAt,
+        Long version
 ) {
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.sisinnov.pms.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "project_members", indexes = {
+    @Index(name = "idx_project_members_project_user", columnList = "project_id, user_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectMember {
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Embeddable
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        @Column(name = "user_id", nullable = false)
+        private UUID userId;
+
+        @Column(name = "project_id", nullable = false)
+        private UUID projectId;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.sisinnov.pms.entity;
+
+import com.sisinnov.pms.enums.TaskPriority;
+import com.sisinnov.pms.enums.TaskStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Entity
+@Table(name = "project_task_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectTaskStats {
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(name = "task_count", nullable = false)
+    @Builder.Default
+    private Long taskCount = 0L;
+
+    @Embeddable
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        @Column(name = "project_id", nullable = false)
+        private UUID projectId;
+
+        @Enumerated(EnumType.STRING)
+        @Column(nullable = false, length = 20)
+        private TaskStatus status;
+
+        @Enumerated(EnumType.STRING)
+        @Column(nullable = false, length = 20)
+        private TaskPriority priority;
+    }
+}
\ No newline at end of file
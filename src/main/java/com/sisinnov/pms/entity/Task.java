@@ -8,6 +8,7 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDate;
 import java.util.UUID;
@@ -18,8 +19,13 @@ import java.util.UUID;
     @Index(name = "idx_task_priority", columnList = "priority"),
     @Index(name = "idx_task_project_id", columnList = "project_id"),
     @Index(name = "idx_task_deleted", columnList = "deleted"),
-    @Index(name = "idx_task_project_deleted", columnList = "project_id, deleted")
+    @Index(name = "idx_task_project_deleted", columnList = "project_id, deleted"),
+    @Index(name = "idx_task_created_id", columnList = "created_at, id"),
+    @Index(name = "idx_task_project_created_id", columnList = "project_id, created_at, id"),
+    @Index(name = "idx_task_status_created_id", columnList = "status, created_at, id"),
+    @Index(name = "idx_task_project_due_date", columnList = "project_id, due_date")
 })
+@SQLRestriction("deleted = false")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -56,6 +62,10 @@ public class Task extends Auditable {
     @Builder.Default
     private Boolean deleted = false;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id", nullable = false)
     private Project project;
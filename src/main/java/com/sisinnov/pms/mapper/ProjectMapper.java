@@ -16,4 +16,7 @@ public interface ProjectMapper {
 
     @Mapping(target = "taskCount", expression = "java(project.getTasks() != null ? project.getTasks().size() : 0)")
     ProjectResponse toResponse(Project project);
+
+    @Mapping(target = "taskCount", source = "taskCount")
+    ProjectResponse toResponse(Project project, long taskCount);
 }
\ No newline at end of file
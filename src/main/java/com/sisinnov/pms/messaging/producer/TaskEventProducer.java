@@ -8,6 +8,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 @Slf4j
@@ -30,6 +32,25 @@ public class TaskEventProducer {
         }
     }
 
+    public void publishTaskCreatedBatch(List<TaskCreatedEvent> events) {
+        try {
+            rabbitTemplate.invoke(operations -> {
+                for (TaskCreatedEvent event : events) {
+                    operations.convertAndSend(
+                            RabbitMQConfig.TASK_EXCHANGE,
+                            RabbitMQConfig.TASK_CREATED_KEY,
+                            event
+                    );
+                }
+                return null;
+            });
+            log.info("Events published: {} TaskCreated in one batch", events.size());
+        } catch (Exception e) {
+            log.error("Failed to publish TaskCreatedEvent batch: size={}, error={}",
+                    events.size(), e.getMessage(), e);
+        }
+    }
+
     public void publishTaskStatusChanged(TaskStatusChangedEvent event) {
         try {
             rabbitTemplate.convertAndSend(
@@ -44,4 +65,23 @@ public class TaskEventProducer {
                     event, e.getMessage(), e);
         }
     }
+
+    public void publishTaskStatusChangedBatch(List<TaskStatusChangedEvent> events) {
+        try {
+            rabbitTemplate.invoke(operations -> {
+                for (TaskStatusChangedEvent event : events) {
+                    operations.convertAndSend(
+                            RabbitMQConfig.TASK_EXCHANGE,
+                            RabbitMQConfig.TASK_STATUS_CHANGED_KEY,
+                            event
+                    );
+                }
+                return null;
+            });
+            log.info("Events published: {} TaskStatusChanged in one batch", events.size());
+        } catch (Exception e) {
+            log.error("Failed to publish TaskStatusChangedEvent batch: size={}, error={}",
+                    events.size(), e.getMessage(), e);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.sisinnov.pms.repository;
+
+import com.sisinnov.pms.entity.ProjectMember;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ProjectMemberRepository extends JpaRepository<ProjectMember, ProjectMember.Key> {
+
+    @Query("SELECT m.id.projectId FROM ProjectMember m JOIN Project p ON p.id = m.id.projectId " +
+           "WHERE m.id.userId = :userId ORDER BY m.id.projectId")
+    List<UUID> findProjectIdsByUserId(@Param("userId") UUID userId, Limit limit);
+
+    @Query("SELECT m.id.projectId FROM ProjectMember m JOIN Project p ON p.id = m.id.projectId " +
+           "WHERE m.id.userId = :userId AND m.id.projectId > :after ORDER BY m.id.projectId")
+    List<UUID> findProjectIdsByUserIdAfter(@Param("userId") UUID userId, @Param("after") UUID after, Limit limit);
+
+    @Query("SELECT m.id.userId FROM ProjectMember m WHERE m.id.projectId = :projectId")
+    List<UUID> findUserIdsByProjectId(@Param("projectId") UUID projectId);
+}
\ No newline at end of file
@@ -2,15 +2,45 @@ package com.sisinnov.pms.repository;
 
 import com.sisinnov.pms.entity.Project;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface ProjectRepository extends JpaRepository<Project, UUID> {
+public interface ProjectRepository extends JpaRepository<Project, UUID>, JpaSpecificationExecutor<Project>, ProjectRepositoryCustom {
 
     Optional<Project> findByNameIgnoreCase(String name);
 
     Boolean existsByNameIgnoreCase(String name);
+
+    @Query("SELECT p.id FROM Project p")
+    List<UUID> findAllIds();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Project p SET p.deleted = true, p.deletedAt = :deletedAt, p.purgeAfter = :purgeAfter " +
+           "WHERE p.id = :id")
+    int softDelete(
+            @Param("id") UUID id,
+            @Param("deletedAt") LocalDateTime deletedAt,
+            @Param("purgeAfter") LocalDateTime purgeAfter
+    );
+
+    @Modifying
+    @Query(value = "DELETE FROM projects WHERE id = :id AND deleted = true", nativeQuery = true)
+    int deletePurged(@Param("id") UUID id);
+
+    @Query("SELECT p.name, t.status, t.priority, COUNT(t), " +
+           "COALESCE(SUM(CASE WHEN t.dueDate < :today THEN 1 ELSE 0 END), 0) " +
+           "FROM Project p LEFT JOIN p.tasks t ON t.deleted = false " +
+           "WHERE p.id = :id " +
+           "GROUP BY p.name, t.status, t.priority")
+    List<Object[]> summarizeTasks(@Param("id") UUID id, @Param("today") LocalDate today);
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.sisinnov.pms.repository;
+
+import com.sisinnov.pms.entity.Project;
+import com.sisinnov.pms.repository.projection.ProjectField;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+public interface ProjectRepositoryCustom {
+
+    Page<Map<String, Object>> findFields(Specification<Project> spec, Set<ProjectField> fields, Pageable pageable);
+
+    Optional<Map<String, Object>> findFieldsById(UUID id, Set<ProjectField> fields);
+
+    List<UUID> findIdsDueForPurge(LocalDateTime now, int limit);
+}
\ No newline at end of file
@@ -0,0 +1,154 @@
+package com.sisinnov.pms.repository;
+
+import com.sisinnov.pms.entity.Project;
+import com.sisinnov.pms.entity.ProjectTaskStats;
+import com.sisinnov.pms.repository.projection.ProjectField;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.criteria.Subquery;
+import org.hibernate.query.NativeQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+class ProjectRepositoryImpl implements ProjectRepositoryCustom {
+
+    private static final String PURGE_DUE_SQL =
+            "SELECT id FROM projects WHERE deleted = true AND purge_after <= :now ORDER BY purge_after";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Map<String, Object>> findFields(Specification<Project> spec, Set<ProjectField> fields, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Project> root = query.from(Project.class);
+        query.multiselect(selections(fields, root, query, cb));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(orders(pageable.getSort(), root, query, cb));
+        }
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+
+        List<Map<String, Object>> content = typedQuery.getResultList().stream()
+                .map(tuple -> toRow(tuple, fields))
+                .toList();
+
+        CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
+        Root<Project> countRoot = countQuery.from(Project.class);
+        countQuery.select(cb.count(countRoot));
+        Predicate countPredicate = spec.toPredicate(countRoot, countQuery, cb);
+        if (countPredicate != null) {
+            countQuery.where(countPredicate);
+        }
+        long total = entityManager.createQuery(countQuery).getSingleResult();
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    @Override
+    public Optional<Map<String, Object>> findFieldsById(UUID id, Set<ProjectField> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Project> root = query.from(Project.class);
+        query.multiselect(selections(fields, root, query, cb));
+        query.where(cb.equal(root.get("id"), id));
+
+        return entityManager.createQuery(query).getResultList().stream()
+                .findFirst()
+                .map(tuple -> toRow(tuple, fields));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<UUID> findIdsDueForPurge(LocalDateTime now, int limit) {
+        return entityManager.createNativeQuery(PURGE_DUE_SQL)
+                .unwrap(NativeQuery.class)
+                .addScalar("id", UUID.class)
+                .setParameter("now", now)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private List<Selection<?>> selections(
+            Set<ProjectField> fields,
+            Root<Project> root,
+            CriteriaQuery<Tuple> query,
+            CriteriaBuilder cb
+    ) {
+        List<Selection<?>> selections = new ArrayList<>();
+        for (ProjectField field : fields) {
+            Selection<?> selection = field == ProjectField.TASK_COUNT
+                    ? taskCount(root, query, cb)
+                    : root.get(field.fieldName());
+            selections.add(selection.alias(field.fieldName()));
+        }
+        return selections;
+    }
+
+    private List<Order> orders(Sort sort, Root<Project> root, CriteriaQuery<Tuple> query, CriteriaBuilder cb) {
+        List<Order> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            ProjectField field = ProjectField.fromName(order.getProperty());
+            Expression<?> expression = field == ProjectField.TASK_COUNT
+                    ? taskCount(root, query, cb)
+                    : root.get(field.fieldName());
+            if (order.isIgnoreCase() && expression.getJavaType() == String.class) {
+                expression = cb.lower(expression.as(String.class));
+            }
+            orders.add(order.isAscending() ? cb.asc(expression) : cb.desc(expression));
+        }
+        return orders;
+    }
+
+    private Subquery<Long> taskCount(Root<Project> root, CriteriaQuery<Tuple> query, CriteriaBuilder cb) {
+        Subquery<Long> subquery = query.subquery(Long.class);
+        Root<ProjectTaskStats> stats = subquery.from(ProjectTaskStats.class);
+        subquery.select(cb.coalesce(cb.sum(stats.get("taskCount")), 0L));
+        subquery.where(cb.equal(stats.get("id").get("projectId"), root.get("id")));
+        return subquery;
+    }
+
+    private Map<String, Object> toRow(Tuple tuple, Set<ProjectField> fields) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (ProjectField field : fields) {
+            Object value = tuple.get(field.fieldName());
+            if (field == ProjectField.TASK_COUNT && value instanceof Number count) {
+                value = count.intValue();
+            }
+            row.put(field.fieldName(), value);
+        }
+        return row;
+    }
+}
\ No newline at end of file
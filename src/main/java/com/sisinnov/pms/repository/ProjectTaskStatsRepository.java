@@ -0,0 +1,67 @@
+package com.sisinnov.pms.repository;
+
+import com.sisinnov.pms.entity.ProjectTaskStats;
+import com.sisinnov.pms.enums.TaskPriority;
+import com.sisinnov.pms.enums.TaskStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ProjectTaskStatsRepository extends JpaRepository<ProjectTaskStats, ProjectTaskStats.Key> {
+
+    @Modifying
+    @Query("UPDATE ProjectTaskStats s SET s.taskCount = s.taskCount + :delta " +
+           "WHERE s.id.projectId = :projectId AND s.id.status = :status AND s.id.priority = :priority")
+    int adjustTaskCount(
+            @Param("projectId") UUID projectId,
+            @Param("status") TaskStatus status,
+            @Param("priority") TaskPriority priority,
+            @Param("delta") long delta
+    );
+
+    @Modifying
+    @Query(value = "INSERT INTO project_task_stats (project_id, status, priority, task_count) " +
+                   "VALUES (:projectId, :status, :priority, 0) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(
+            @Param("projectId") UUID projectId,
+            @Param("status") String status,
+            @Param("priority") String priority
+    );
+
+    @Query("SELECT COALESCE(SUM(s.taskCount), 0) FROM ProjectTaskStats s")
+    long sumTaskCount();
+
+    @Query("SELECT COALESCE(SUM(s.taskCount), 0) FROM ProjectTaskStats s WHERE s.id.projectId = :projectId")
+    long sumTaskCountByProjectId(@Param("projectId") UUID projectId);
+
+    @Query("SELECT s.id.projectId, COALESCE(SUM(s.taskCount), 0) FROM ProjectTaskStats s " +
+           "WHERE s.id.projectId IN :projectIds GROUP BY s.id.projectId")
+    List<Object[]> sumTaskCountByProjectIds(@Param("projectIds") Collection<UUID> projectIds);
+
+    @Query("SELECT COALESCE(SUM(s.taskCount), 0) FROM ProjectTaskStats s WHERE s.id.status = :status")
+    long sumTaskCountByStatus(@Param("status") TaskStatus status);
+
+    @Query("SELECT COALESCE(SUM(s.taskCount), 0) FROM ProjectTaskStats s " +
+           "WHERE s.id.projectId = :projectId AND s.id.status = :status")
+    long sumTaskCountByProjectIdAndStatus(
+            @Param("projectId") UUID projectId,
+            @Param("status") TaskStatus status
+    );
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ProjectTaskStats s WHERE s.id.projectId = :projectId")
+    List<ProjectTaskStats> findByProjectIdForUpdate(@Param("projectId") UUID projectId);
+
+    @Modifying
+    @Query("DELETE FROM ProjectTaskStats s WHERE s.id.projectId = :projectId")
+    int deleteByProjectId(@Param("projectId") UUID projectId);
+}
\ No newline at end of file
@@ -1,17 +1,105 @@
 package com.sisinnov.pms.repository;
 
+import com.sisinnov.pms.dto.response.TaskResponse;
 import com.sisinnov.pms.entity.Task;
+import com.sisinnov.pms.enums.TaskStatus;
+import com.sisinnov.pms.repository.projection.TaskStatusSnapshot;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, UUID>, JpaSpecificationExecutor<Task> {
+public interface TaskRepository extends JpaRepository<Task, UUID>, JpaSpecificationExecutor<Task>, TaskRepositoryCustom {
 
     List<Task> findByProjectIdAndDeletedFalse(UUID projectId);
 
     Long countByProjectIdAndDeletedFalse(UUID projectId);
+
+    @Query("SELECT t.id FROM Task t")
+    List<UUID> findAllIds();
+
+    @Query("SELECT t.id FROM Task t WHERE t.project.id = :projectId AND t.deleted = false")
+    List<UUID> findActiveIdsByProjectId(@Param("projectId") UUID projectId);
+
+    @Query("SELECT new com.sisinnov.pms.dto.response.TaskResponse(" +
+           "t.id, t.title, t.description, t.status, t.priority, t.dueDate, " +
+           "p.id, p.name, t.createdAt, t.updatedAt, t.version) " +
+           "FROM Task t JOIN t.project p WHERE t.id = :id")
+    Optional<TaskResponse> findResponseById(@Param("id") UUID id);
+
+    @Query("SELECT t.project.id, " +
+           "SUM(CASE WHEN t.dueDate < :today THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN t.dueDate >= :today THEN 1 ELSE 0 END) " +
+           "FROM Task t WHERE t.deleted = false AND t.status <> :excluded AND t.dueDate <= :horizon " +
+           "GROUP BY t.project.id")
+    List<Object[]> countDueBuckets(
+            @Param("today") LocalDate today,
+            @Param("horizon") LocalDate horizon,
+            @Param("excluded") TaskStatus excluded
+    );
+
+    @Query("SELECT t.project.id, " +
+           "SUM(CASE WHEN t.dueDate < :today THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN t.dueDate >= :today THEN 1 ELSE 0 END) " +
+           "FROM Task t WHERE t.project.id = :projectId AND t.deleted = false " +
+           "AND t.status <> :excluded AND t.dueDate <= :horizon " +
+           "GROUP BY t.project.id")
+    List<Object[]> countDueBucketsByProjectId(
+            @Param("projectId") UUID projectId,
+            @Param("today") LocalDate today,
+            @Param("horizon") LocalDate horizon,
+            @Param("excluded") TaskStatus excluded
+    );
+
+    @Query("SELECT t.status, t.priority, COUNT(t) FROM Task t " +
+           "WHERE t.project.id = :projectId AND t.deleted = false " +
+           "GROUP BY t.status, t.priority")
+    List<Object[]> countByStatusAndPriority(@Param("projectId") UUID projectId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new com.sisinnov.pms.repository.projection.TaskStatusSnapshot(" +
+           "t.id, t.title, t.status, t.priority, t.project.id, t.version) " +
+           "FROM Task t WHERE t.id IN :ids AND t.deleted = false")
+    List<TaskStatusSnapshot> findStatusSnapshotsForUpdate(@Param("ids") Collection<UUID> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :status, t.version = t.version + 1, t.updatedAt = :updatedAt " +
+           "WHERE t.id IN :ids")
+    int updateStatusByIds(
+            @Param("ids") Collection<UUID> ids,
+            @Param("status") TaskStatus status,
+            @Param("updatedAt") LocalDateTime updatedAt
+    );
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :status, t.version = t.version + 1, t.updatedAt = :updatedAt " +
+           "WHERE t.id = :id AND t.version = :version")
+    int updateStatusIfVersion(
+            @Param("id") UUID id,
+            @Param("version") Long version,
+            @Param("status") TaskStatus status,
+            @Param("updatedAt") LocalDateTime updatedAt
+    );
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.deleted = true, t.updatedAt = :updatedAt " +
+           "WHERE t.project.id = :projectId AND t.deleted = false")
+    int softDeleteByProjectId(@Param("projectId") UUID projectId, @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying
+    @Query(value = "DELETE FROM tasks WHERE id IN (" +
+                   "SELECT id FROM tasks WHERE project_id = :projectId LIMIT :limit)", nativeQuery = true)
+    int deleteChunkByProjectId(@Param("projectId") UUID projectId, @Param("limit") int limit);
 }
\ No newline at end of file
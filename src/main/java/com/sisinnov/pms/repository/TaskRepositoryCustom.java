@@ -0,0 +1,26 @@
+package com.sisinnov.pms.repository;
+
+import com.sisinnov.pms.dto.response.TaskDueItemResponse;
+import com.sisinnov.pms.dto.response.TaskResponse;
+import com.sisinnov.pms.entity.Task;
+import com.sisinnov.pms.repository.projection.TaskField;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public interface TaskRepositoryCustom {
+
+    List<TaskResponse> findResponses(Specification<Task> spec, Sort sort, int limit);
+
+    List<Map<String, Object>> findFields(Specification<Task> spec, Set<TaskField> fields, Sort sort, int limit);
+
+    Stream<TaskResponse> streamResponses(Specification<Task> spec, Sort sort, int fetchSize);
+
+    List<TaskDueItemResponse> findDuePreviews(UUID projectId, LocalDate today, LocalDate horizon, int perBucket);
+}
\ No newline at end of file
@@ -0,0 +1,169 @@
+package com.sisinnov.pms.repository;
+
+import com.sisinnov.pms.dto.response.TaskDueItemResponse;
+import com.sisinnov.pms.dto.response.TaskResponse;
+import com.sisinnov.pms.entity.Project;
+import com.sisinnov.pms.entity.Task;
+import com.sisinnov.pms.enums.TaskPriority;
+import com.sisinnov.pms.enums.TaskStatus;
+import com.sisinnov.pms.repository.projection.TaskField;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.NativeQuery;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.springframework.data.jpa.repository.query.QueryUtils.toOrders;
+
+class TaskRepositoryImpl implements TaskRepositoryCustom {
+
+    private static final String DUE_PREVIEW_SQL =
+            "SELECT id, title, status, priority, due_date, project_id FROM (" +
+            "SELECT t.id, t.title, t.status, t.priority, t.due_date, t.project_id, " +
+            "ROW_NUMBER() OVER (PARTITION BY t.project_id, CASE WHEN t.due_date < :today THEN 0 ELSE 1 END " +
+            "ORDER BY t.due_date, t.id) AS bucket_position " +
+            "FROM tasks t WHERE t.deleted = false AND t.status <> 'DONE' AND t.due_date <= :horizon%s" +
+            ") ranked WHERE bucket_position <= :perBucket ORDER BY project_id, due_date, id";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TaskResponse> findResponses(Specification<Task> spec, Sort sort, int limit) {
+        TypedQuery<TaskResponse> query = createResponseQuery(spec, sort);
+        if (limit > 0) {
+            query.setMaxResults(limit);
+        }
+        return query.getResultList();
+    }
+
+    @Override
+    public List<Map<String, Object>> findFields(Specification<Task> spec, Set<TaskField> fields, Sort sort, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> root = query.from(Task.class);
+        Join<Task, Project> project = fields.contains(TaskField.PROJECT_NAME) ? root.join("project") : null;
+
+        List<Selection<?>> selections = new ArrayList<>();
+        for (TaskField field : fields) {
+            Selection<?> selection = switch (field) {
+                case PROJECT_ID -> root.get("project").get("id");
+                case PROJECT_NAME -> project.get("name");
+                default -> root.get(field.fieldName());
+            };
+            selections.add(selection.alias(field.fieldName()));
+        }
+        query.multiselect(selections);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (sort.isSorted()) {
+            query.orderBy(toOrders(sort, root, cb));
+        }
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (limit > 0) {
+            typedQuery.setMaxResults(limit);
+        }
+
+        return typedQuery.getResultList().stream()
+                .map(tuple -> {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    for (TaskField field : fields) {
+                        row.put(field.fieldName(), tuple.get(field.fieldName()));
+                    }
+                    return row;
+                })
+                .toList();
+    }
+
+    @Override
+    public Stream<TaskResponse> streamResponses(Specification<Task> spec, Sort sort, int fetchSize) {
+        return createResponseQuery(spec, sort)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TaskDueItemResponse> findDuePreviews(UUID projectId, LocalDate today, LocalDate horizon, int perBucket) {
+        NativeQuery<Object[]> query = entityManager.createNativeQuery(
+                        DUE_PREVIEW_SQL.formatted(projectId != null ? " AND t.project_id = :projectId" : ""))
+                .unwrap(NativeQuery.class)
+                .addScalar("id", UUID.class)
+                .addScalar("title", String.class)
+                .addScalar("status", String.class)
+                .addScalar("priority", String.class)
+                .addScalar("due_date", LocalDate.class)
+                .addScalar("project_id", UUID.class)
+                .setParameter("today", today)
+                .setParameter("horizon", horizon)
+                .setParameter("perBucket", perBucket);
+        if (projectId != null) {
+            query.setParameter("projectId", projectId);
+        }
+
+        return query.getResultList().stream()
+                .map(row -> new TaskDueItemResponse(
+                        (UUID) row[0],
+                        (String) row[1],
+                        TaskStatus.valueOf((String) row[2]),
+                        TaskPriority.valueOf((String) row[3]),
+                        (LocalDate) row[4],
+                        (UUID) row[5]
+                ))
+                .toList();
+    }
+
+    private TypedQuery<TaskResponse> createResponseQuery(Specification<Task> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskResponse> query = cb.createQuery(TaskResponse.class);
+        Root<Task> root = query.from(Task.class);
+        Join<Task, Project> project = root.join("project");
+
+        query.select(cb.construct(
+                TaskResponse.class,
+                root.get("id"),
+                root.get("title"),
+                root.get("description"),
+                root.get("status"),
+                root.get("priority"),
+                root.get("dueDate"),
+                project.get("id"),
+                project.get("name"),
+                root.get("createdAt"),
+                root.get("updatedAt"),
+                root.get("version")
+        ));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (sort.isSorted()) {
+            query.orderBy(toOrders(sort, root, cb));
+        }
+
+        return entityManager.createQuery(query);
+    }
+}
\ No newline at end of file
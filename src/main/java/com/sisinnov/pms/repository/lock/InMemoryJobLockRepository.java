@@ -0,0 +1,29 @@
+package com.sisinnov.pms.repository.lock;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Repository
+@ConditionalOnProperty(name = "scheduling.lock.store", havingValue = "memory")
+public class InMemoryJobLockRepository implements JobLockRepository {
+
+    private final Map<String, Instant> leases = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean tryAcquire(String job, Duration lease) {
+        Instant now = Instant.now();
+        Instant expiresAt = now.plus(lease);
+        return leases.compute(job, (key, current) ->
+                current == null || !current.isAfter(now) ? expiresAt : current) == expiresAt;
+    }
+
+    @Override
+    public void release(String job) {
+        leases.remove(job);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.sisinnov.pms.repository.lock;
+
+import java.time.Duration;
+
+public interface JobLockRepository {
+
+    boolean tryAcquire(String job, Duration lease);
+
+    void release(String job);
+}
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.sisinnov.pms.repository.lock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "scheduling.lock.store", havingValue = "redis", matchIfMissing = true)
+public class RedisJobLockRepository implements JobLockRepository {
+
+    private static final String KEY_PREFIX = "job-lock:";
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class
+    );
+
+    private final String owner = UUID.randomUUID().toString();
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public boolean tryAcquire(String job, Duration lease) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + job, owner, lease));
+        } catch (RuntimeException e) {
+            log.warn("SCHEDULER: Lock for {} unavailable - skipping this run", job, e);
+            return false;
+        }
+    }
+
+    @Override
+    public void release(String job) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(KEY_PREFIX + job), owner);
+        } catch (RuntimeException e) {
+            log.warn("SCHEDULER: Failed to release lock for {} - it expires with its lease", job, e);
+        }
+    }
+}
\ No newline at end of file
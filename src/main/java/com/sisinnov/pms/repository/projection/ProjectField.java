@@ -0,0 +1,46 @@
+package com.sisinnov.pms.repository.projection;
+
+import com.sisinnov.pms.exception.BusinessException;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+public enum ProjectField {
+    ID("id"),
+    NAME("name"),
+    DESCRIPTION("description"),
+    START_DATE("startDate"),
+    END_DATE("endDate"),
+    TASK_COUNT("taskCount"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt");
+
+    private final String fieldName;
+
+    ProjectField(String fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    public String fieldName() {
+        return fieldName;
+    }
+
+    public static Set<ProjectField> parse(String fields) {
+        Set<ProjectField> selected = EnumSet.noneOf(ProjectField.class);
+        for (String name : fields.split(",")) {
+            if (!name.isBlank()) {
+                selected.add(fromName(name.trim()));
+            }
+        }
+        return selected.isEmpty() ? EnumSet.allOf(ProjectField.class) : selected;
+    }
+
+    public static ProjectField fromName(String name) {
+        for (ProjectField field : values()) {
+            if (field.fieldName.equals(name)) {
+                return field;
+            }
+        }
+        throw new BusinessException("Unknown project field: " + name);
+    }
+}
\ No newline at end of file
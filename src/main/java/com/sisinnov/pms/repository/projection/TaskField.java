@@ -0,0 +1,49 @@
+package com.sisinnov.pms.repository.projection;
+
+import com.sisinnov.pms.exception.BusinessException;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+public enum TaskField {
+    ID("id"),
+    TITLE("title"),
+    DESCRIPTION("description"),
+    STATUS("status"),
+    PRIORITY("priority"),
+    DUE_DATE("dueDate"),
+    PROJECT_ID("projectId"),
+    PROJECT_NAME("projectName"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt"),
+    VERSION("version");
+
+    private final String fieldName;
+
+    TaskField(String fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    public String fieldName() {
+        return fieldName;
+    }
+
+    public static Set<TaskField> parse(String fields) {
+        Set<TaskField> selected = EnumSet.noneOf(TaskField.class);
+        for (String name : fields.split(",")) {
+            if (!name.isBlank()) {
+                selected.add(fromName(name.trim()));
+            }
+        }
+        return selected.isEmpty() ? EnumSet.allOf(TaskField.class) : selected;
+    }
+
+    private static TaskField fromName(String name) {
+        for (TaskField field : values()) {
+            if (field.fieldName.equals(name)) {
+                return field;
+            }
+        }
+        throw new BusinessException("Unknown task field: " + name);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.sisinnov.pms.repository.projection;
+
+import com.sisinnov.pms.enums.TaskPriority;
+import com.sisinnov.pms.enums.TaskStatus;
+
+import java.util.UUID;
+
+public record TaskStatusSnapshot(
+        UUID id,
+        String title,
+        TaskStatus status,
+        TaskPriority priority,
+        UUID projectId,
+        Long version
+) {
+}
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.sisinnov.pms.repository.projection;
+
+import com.sisinnov.pms.dto.response.TaskResponse;
+import com.sisinnov.pms.enums.TaskStatus;
+
+public record TaskStatusTransition(
+        TaskStatus oldStatus,
+        TaskResponse task
+) {
+}
\ No newline at end of file
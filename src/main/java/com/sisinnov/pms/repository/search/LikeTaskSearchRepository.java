@@ -0,0 +1,40 @@
+package com.sisinnov.pms.repository.search;
+
+import com.sisinnov.pms.dto.response.TaskResponse;
+import com.sisinnov.pms.entity.Task;
+import com.sisinnov.pms.repository.TaskRepository;
+import com.sisinnov.pms.repository.specification.TaskSpecification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "search.tasks.engine", havingValue = "like")
+public class LikeTaskSearchRepository implements TaskSearchRepository {
+
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.asc("id"));
+
+    private final TaskRepository taskRepository;
+
+    @Override
+    public List<TaskResponse> search(String query, UUID projectId, int limit) {
+        Specification<Task> spec = TaskSpecification.notDeleted()
+                .and(TaskSpecification.withProjectId(projectId))
+                .and(TaskSpecification.containsText(query));
+
+        String term = query.trim().toLowerCase(Locale.ROOT);
+
+        return taskRepository.findResponses(spec, NEWEST_FIRST, limit)
+                .stream()
+                .sorted(Comparator.comparing(task -> !task.title().toLowerCase(Locale.ROOT).contains(term)))
+                .toList();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,67 @@
+package com.sisinnov.pms.repository.search;
+
+import com.sisinnov.pms.dto.response.TaskResponse;
+import com.sisinnov.pms.repository.TaskRepository;
+import com.sisinnov.pms.repository.specification.TaskSpecification;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "search.tasks.engine", havingValue = "postgres", matchIfMissing = true)
+public class PostgresTaskSearchRepository implements TaskSearchRepository {
+
+    private static final String RANKED_IDS_SQL = """
+            SELECT t.id
+            FROM tasks t
+            WHERE t.deleted = false
+              AND t.search_vector @@ websearch_to_tsquery('simple', :query)
+            %s
+            ORDER BY ts_rank_cd(t.search_vector, websearch_to_tsquery('simple', :query)) DESC, t.id
+            LIMIT :limit
+            """;
+
+    private final TaskRepository taskRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TaskResponse> search(String query, UUID projectId, int limit) {
+        String projectFilter = projectId != null ? "AND t.project_id = :projectId" : "";
+
+        Query nativeQuery = entityManager.createNativeQuery(RANKED_IDS_SQL.formatted(projectFilter), UUID.class)
+                .setParameter("query", query)
+                .setParameter("limit", limit);
+        if (projectId != null) {
+            nativeQuery.setParameter("projectId", projectId);
+        }
+
+        List<UUID> rankedIds = nativeQuery.getResultList();
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, Integer> rank = new HashMap<>();
+        for (int i = 0; i < rankedIds.size(); i++) {
+            rank.put(rankedIds.get(i), i);
+        }
+
+        return taskRepository.findResponses(TaskSpecification.withIds(rankedIds), Sort.unsorted(), 0)
+                .stream()
+                .sorted(Comparator.comparing(task -> rank.get(task.id())))
+                .toList();
+    }
+}
\ No newline at end of file
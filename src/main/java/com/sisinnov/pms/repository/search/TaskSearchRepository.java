@@ -0,0 +1,11 @@
+package com.sisinnov.pms.repository.search;
+
+import com.sisinnov.pms.dto.response.TaskResponse;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface TaskSearchRepository {
+
+    List<TaskResponse> search(String query, UUID projectId, int limit);
+}
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.sisinnov.pms.repository.specification;
+
+import com.sisinnov.pms.entity.Project;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Locale;
+
+public class ProjectSpecification {
+
+    private ProjectSpecification() {
+    }
+
+    public static Specification<Project> nameContains(String name) {
+        return (root, query, criteriaBuilder) -> {
+            if (name == null || name.isBlank()) {
+                return criteriaBuilder.conjunction();
+            }
+            String pattern = "%" + escapeLike(normalize(name)) + "%";
+            return criteriaBuilder.like(criteriaBuilder.lower(root.get("name")), pattern, '\\');
+        };
+    }
+
+    public static Specification<Project> nameStartsWith(String prefix) {
+        return (root, query, criteriaBuilder) -> {
+            if (prefix == null || prefix.isBlank()) {
+                return criteriaBuilder.conjunction();
+            }
+            String pattern = escapeLike(normalize(prefix)) + "%";
+            return criteriaBuilder.like(criteriaBuilder.lower(root.get("name")), pattern, '\\');
+        };
+    }
+
+    public static String normalize(String name) {
+        return name == null || name.isBlank() ? null : name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
\ No newline at end of file
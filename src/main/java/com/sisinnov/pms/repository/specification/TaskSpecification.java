@@ -6,6 +6,9 @@ import com.sisinnov.pms.enums.TaskStatus;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Locale;
 import java.util.UUID;
 
 public class TaskSpecification {
@@ -40,6 +43,15 @@ public class TaskSpecification {
         };
     }
 
+    public static Specification<Task> withStatusNot(TaskStatus status) {
+        return (root, query, criteriaBuilder) -> {
+            if (status == null) {
+                return criteriaBuilder.conjunction();
+            }
+            return criteriaBuilder.notEqual(root.get("status"), status);
+        };
+    }
+
     public static Specification<Task> notDeleted() {
         return (root, query, criteriaBuilder) ->
             criteriaBuilder.equal(root.get("deleted"), false);
@@ -62,4 +74,42 @@ public class TaskSpecification {
             return criteriaBuilder.greaterThanOrEqualTo(root.get("dueDate"), date);
         };
     }
+
+    public static Specification<Task> createdAfter(LocalDateTime createdAt, UUID id) {
+        return (root, query, criteriaBuilder) -> {
+            if (createdAt == null || id == null) {
+                return criteriaBuilder.conjunction();
+            }
+            return criteriaBuilder.or(
+                    criteriaBuilder.greaterThan(root.get("createdAt"), createdAt),
+                    criteriaBuilder.and(
+                            criteriaBuilder.equal(root.get("createdAt"), createdAt),
+                            criteriaBuilder.greaterThan(root.get("id"), id)
+                    )
+            );
+        };
+    }
+
+    public static Specification<Task> withIds(Collection<UUID> ids) {
+        return (root, query, criteriaBuilder) -> root.get("id").in(ids);
+    }
+
+    public static Specification<Task> containsText(String text) {
+        return (root, query, criteriaBuilder) -> {
+            if (text == null || text.isBlank()) {
+                return criteriaBuilder.conjunction();
+            }
+            String pattern = "%" + escapeLike(text.trim().toLowerCase(Locale.ROOT)) + "%";
+            return criteriaBuilder.or(
+                    criteriaBuilder.like(criteriaBuilder.lower(root.get("title")), pattern, '\\'),
+                    criteriaBuilder.like(criteriaBuilder.lower(root.get("description")), pattern, '\\')
+            );
+        };
+    }
+
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
 }
\ No newline at end of file
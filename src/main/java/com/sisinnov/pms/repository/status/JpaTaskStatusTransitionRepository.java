@@ -0,0 +1,49 @@
+package com.sisinnov.pms.repository.status;
+
+import com.sisinnov.pms.dto.response.TaskResponse;
+import com.sisinnov.pms.enums.TaskStatus;
+import com.sisinnov.pms.repository.TaskRepository;
+import com.sisinnov.pms.repository.projection.TaskStatusTransition;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "tasks.status-update.engine", havingValue = "jpa")
+public class JpaTaskStatusTransitionRepository implements TaskStatusTransitionRepository {
+
+    private final TaskRepository taskRepository;
+
+    @Override
+    public Optional<TaskStatusTransition> transition(
+            UUID id,
+            TaskStatus newStatus,
+            TaskStatus expectedStatus,
+            Long expectedVersion,
+            LocalDateTime updatedAt
+    ) {
+        Optional<TaskResponse> current = taskRepository.findResponseById(id);
+        if (current.isEmpty()) {
+            return Optional.empty();
+        }
+
+        TaskResponse task = current.get();
+        if (task.status() == newStatus
+                || (expectedStatus != null && task.status() != expectedStatus)
+                || (expectedVersion != null && !expectedVersion.equals(task.version()))) {
+            return Optional.empty();
+        }
+
+        if (taskRepository.updateStatusIfVersion(id, task.version(), newStatus, updatedAt) == 0) {
+            return Optional.empty();
+        }
+
+        return taskRepository.findResponseById(id)
+                .map(updated -> new TaskStatusTransition(task.status(), updated));
+    }
+}
\ No newline at end of file
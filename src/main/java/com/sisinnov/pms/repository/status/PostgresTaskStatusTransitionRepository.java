@@ -0,0 +1,103 @@
+package com.sisinnov.pms.repository.status;
+
+import com.sisinnov.pms.dto.response.TaskResponse;
+import com.sisinnov.pms.enums.TaskPriority;
+import com.sisinnov.pms.enums.TaskStatus;
+import com.sisinnov.pms.repository.projection.TaskStatusTransition;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+@ConditionalOnProperty(name = "tasks.status-update.engine", havingValue = "postgres", matchIfMissing = true)
+public class PostgresTaskStatusTransitionRepository implements TaskStatusTransitionRepository {
+
+    private static final String TRANSITION_SQL = """
+            UPDATE tasks t
+            SET status = :newStatus, version = t.version + 1, updated_at = :updatedAt
+            FROM (SELECT id, status FROM tasks WHERE id = :id AND deleted = false FOR UPDATE) old, projects p
+            WHERE t.id = old.id
+              AND p.id = t.project_id
+              AND t.status <> :newStatus
+            %s
+            RETURNING t.id AS id, t.title AS title, t.description AS description,
+                      old.status AS old_status, t.status AS status, t.priority AS priority,
+                      t.due_date AS due_date, p.id AS project_id, p.name AS project_name,
+                      t.created_at AS created_at, t.updated_at AS updated_at, t.version AS version
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<TaskStatusTransition> transition(
+            UUID id,
+            TaskStatus newStatus,
+            TaskStatus expectedStatus,
+            Long expectedVersion,
+            LocalDateTime updatedAt
+    ) {
+        StringBuilder preconditions = new StringBuilder();
+        if (expectedStatus != null) {
+            preconditions.append("  AND old.status = :expectedStatus\n");
+        }
+        if (expectedVersion != null) {
+            preconditions.append("  AND t.version = :expectedVersion\n");
+        }
+
+        NativeQuery<Object[]> query = entityManager.createNativeQuery(TRANSITION_SQL.formatted(preconditions))
+                .unwrap(NativeQuery.class)
+                .addScalar("id", UUID.class)
+                .addScalar("title", String.class)
+                .addScalar("description", String.class)
+                .addScalar("old_status", String.class)
+                .addScalar("status", String.class)
+                .addScalar("priority", String.class)
+                .addScalar("due_date", LocalDate.class)
+                .addScalar("project_id", UUID.class)
+                .addScalar("project_name", String.class)
+                .addScalar("created_at", LocalDateTime.class)
+                .addScalar("updated_at", LocalDateTime.class)
+                .addScalar("version", Long.class);
+
+        query.setParameter("id", id)
+                .setParameter("newStatus", newStatus.name())
+                .setParameter("updatedAt", updatedAt);
+        if (expectedStatus != null) {
+            query.setParameter("expectedStatus", expectedStatus.name());
+        }
+        if (expectedVersion != null) {
+            query.setParameter("expectedVersion", expectedVersion);
+        }
+
+        List<Object[]> rows = query.getResultList();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Object[] row = rows.get(0);
+        TaskResponse task = new TaskResponse(
+                (UUID) row[0],
+                (String) row[1],
+                (String) row[2],
+                TaskStatus.valueOf((String) row[4]),
+                TaskPriority.valueOf((String) row[5]),
+                (LocalDate) row[6],
+                (UUID) row[7],
+                (String) row[8],
+                (LocalDateTime) row[9],
+                (LocalDateTime) row[10],
+                (Long) row[11]
+        );
+        return Optional.of(new TaskStatusTransition(TaskStatus.valueOf((String) row[3]), task));
+    }
+}
\ No newline at end of file
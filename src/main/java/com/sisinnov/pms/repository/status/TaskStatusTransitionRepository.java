@@ -0,0 +1,19 @@
+package com.sisinnov.pms.repository.status;
+
+import com.sisinnov.pms.enums.TaskStatus;
+import com.sisinnov.pms.repository.projection.TaskStatusTransition;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface TaskStatusTransitionRepository {
+
+    Optional<TaskStatusTransition> transition(
+            UUID id,
+            TaskStatus newStatus,
+            TaskStatus expectedStatus,
+            Long expectedVersion,
+            LocalDateTime updatedAt
+    );
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.sisinnov.pms.repository.version;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Repository
+@ConditionalOnProperty(name = "resource-versions.store", havingValue = "memory")
+public class InMemoryResourceVersionRepository implements ResourceVersionRepository {
+
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    @Override
+    public long current(String resource) {
+        return versions.computeIfAbsent(resource, key -> new AtomicLong()).get();
+    }
+
+    @Override
+    public long increment(String resource) {
+        return versions.computeIfAbsent(resource, key -> new AtomicLong()).incrementAndGet();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.sisinnov.pms.repository.version;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "resource-versions.store", havingValue = "redis", matchIfMissing = true)
+public class RedisResourceVersionRepository implements ResourceVersionRepository {
+
+    private static final String KEY_PREFIX = "resource_version:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public long current(String resource) {
+        String version = redisTemplate.opsForValue().get(KEY_PREFIX + resource);
+        return version != null ? Long.parseLong(version) : 0L;
+    }
+
+    @Override
+    public long increment(String resource) {
+        Long version = redisTemplate.opsForValue().increment(KEY_PREFIX + resource);
+        return version != null ? version : 0L;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.sisinnov.pms.repository.version;
+
+public interface ResourceVersionRepository {
+
+    long current(String resource);
+
+    long increment(String resource);
+}
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.sisinnov.pms.repository.warmup;
+
+import java.util.List;
+import java.util.Map;
+
+public interface HotKeyRepository {
+
+    List<String> load(int limit);
+
+    void merge(Map<String, Long> counts);
+}
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.sisinnov.pms.repository.warmup;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+@Repository
+@ConditionalOnProperty(name = "cache.warmup.store", havingValue = "memory")
+public class InMemoryHotKeyRepository implements HotKeyRepository {
+
+    private final Map<String, Double> scores = new HashMap<>();
+    private final double decay;
+    private final int retained;
+
+    public InMemoryHotKeyRepository(
+            @Value("${cache.warmup.decay:0.9}") double decay,
+            @Value("${cache.warmup.sketch-capacity:5000}") int retained) {
+        this.decay = decay;
+        this.retained = retained;
+    }
+
+    @Override
+    public synchronized List<String> load(int limit) {
+        return ranked().limit(limit).toList();
+    }
+
+    @Override
+    public synchronized void merge(Map<String, Long> counts) {
+        scores.replaceAll((key, score) -> score * decay);
+        counts.forEach((key, count) -> scores.merge(key, count.doubleValue(), Double::sum));
+        List<String> kept = ranked().limit(retained).toList();
+        scores.keySet().retainAll(kept);
+    }
+
+    private Stream<String> ranked() {
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .map(Map.Entry::getKey);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.sisinnov.pms.repository.warmup;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Repository
+@ConditionalOnProperty(name = "cache.warmup.store", havingValue = "redis", matchIfMissing = true)
+public class RedisHotKeyRepository implements HotKeyRepository {
+
+    private static final String KEY = "cache-warmup:hot-keys";
+
+    private static final RedisScript<Long> MERGE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('ZUNIONSTORE', KEYS[1], 1, KEYS[1], 'WEIGHTS', ARGV[1]) " +
+            "for i = 3, #ARGV, 2 do redis.call('ZINCRBY', KEYS[1], ARGV[i + 1], ARGV[i]) end " +
+            "redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[2]) + 1)) " +
+            "return redis.call('ZCARD', KEYS[1])",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final double decay;
+    private final int retained;
+
+    public RedisHotKeyRepository(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${cache.warmup.decay:0.9}") double decay,
+            @Value("${cache.warmup.sketch-capacity:5000}") int retained) {
+        this.redisTemplate = redisTemplate;
+        this.decay = decay;
+        this.retained = retained;
+    }
+
+    @Override
+    public List<String> load(int limit) {
+        Set<String> keys = redisTemplate.opsForZSet().reverseRange(KEY, 0, limit - 1L);
+        return keys == null ? List.of() : List.copyOf(keys);
+    }
+
+    @Override
+    public void merge(Map<String, Long> counts) {
+        List<Object> args = new ArrayList<>(2 + counts.size() * 2);
+        args.add(String.valueOf(decay));
+        args.add(String.valueOf(retained));
+        counts.forEach((key, count) -> {
+            args.add(key);
+            args.add(String.valueOf(count));
+        });
+        redisTemplate.execute(MERGE_SCRIPT, List.of(KEY), args.toArray());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.sisinnov.pms.security;
+
+import com.sisinnov.pms.entity.User;
+import com.sisinnov.pms.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class CurrentUser {
+
+    private final UserRepository userRepository;
+
+    public Optional<UUID> id() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserDetails userDetails)) {
+            return Optional.empty();
+        }
+        return userRepository.findByUsername(userDetails.getUsername()).map(User::getId);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.sisinnov.pms.security;
+
+import com.sisinnov.pms.entity.ProjectMember;
+import com.sisinnov.pms.repository.ProjectMemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class ProjectAccess {
+
+    private final CurrentUser currentUser;
+    private final ProjectMemberRepository memberRepository;
+
+    public boolean isMember(UUID projectId) {
+        return currentUser.id()
+                .map(userId -> memberRepository.existsById(new ProjectMember.Key(userId, projectId)))
+                .orElse(false);
+    }
+}
\ No newline at end of file
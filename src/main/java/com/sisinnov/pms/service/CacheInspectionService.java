@@ -0,0 +1,94 @@
+package com.sisinnov.pms.service;
+
+import com.sisinnov.pms.config.CacheKeyStats;
+import com.sisinnov.pms.config.TwoLevelCache;
+import com.sisinnov.pms.dto.response.CacheKeyResponse;
+import com.sisinnov.pms.dto.response.CacheStatsResponse;
+import com.sisinnov.pms.exception.BusinessException;
+import com.sisinnov.pms.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+@RequiredArgsConstructor
+public class CacheInspectionService {
+
+    public static final String HOTTEST = "hottest";
+    public static final String LARGEST = "largest";
+
+    private final CacheManager cacheManager;
+    private final MeterRegistry meterRegistry;
+
+    public List<CacheStatsResponse> stats() {
+        return cacheManager.getCacheNames().stream()
+                .sorted()
+                .map(this::stats)
+                .toList();
+    }
+
+    public List<CacheKeyResponse> keys(String cacheName, String order, int limit) {
+        TwoLevelCache cache = twoLevelCache(cacheName);
+        if (cache == null) {
+            throw new ResourceNotFoundException("Cache not found or not inspectable: " + cacheName);
+        }
+
+        List<CacheKeyStats.KeyStat> keys = switch (order) {
+            case HOTTEST -> cache.hottestKeys(limit);
+            case LARGEST -> cache.largestKeys(limit);
+            default -> throw new BusinessException("Unknown key order: " + order + " (use hottest or largest)");
+        };
+        return keys.stream()
+                .map(key -> new CacheKeyResponse(key.key(), key.family(), key.hits(), key.sizeBytes()))
+                .toList();
+    }
+
+    private CacheStatsResponse stats(String cacheName) {
+        Map<String, long[]> byFamily = new TreeMap<>();
+        for (Counter counter : meterRegistry.find("cache.requests").tag("cache", cacheName).counters()) {
+            String family = counter.getId().getTag("family");
+            if (family == null) {
+                continue;
+            }
+            long[] counts = byFamily.computeIfAbsent(family, f -> new long[3]);
+            long count = (long) counter.count();
+            boolean hit = "hit".equals(counter.getId().getTag("result"));
+            boolean local = "l1".equals(counter.getId().getTag("level"));
+            if (hit && local) {
+                counts[0] += count;
+            } else if (hit) {
+                counts[1] += count;
+            } else if (!local) {
+                counts[2] += count;
+            }
+        }
+
+        List<CacheStatsResponse.FamilyStats> families = byFamily.entrySet().stream()
+                .map(entry -> {
+                    long[] counts = entry.getValue();
+                    long lookups = counts[0] + counts[1] + counts[2];
+                    double hitRatio = lookups == 0 ? 0.0 : (double) (counts[0] + counts[1]) / lookups;
+                    return new CacheStatsResponse.FamilyStats(entry.getKey(), counts[0], counts[1], counts[2], hitRatio);
+                })
+                .toList();
+
+        TwoLevelCache cache = twoLevelCache(cacheName);
+        return new CacheStatsResponse(cacheName, cache != null ? cache.localSize() : null, families);
+    }
+
+    private TwoLevelCache twoLevelCache(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache instanceof TransactionAwareCacheDecorator decorator) {
+            cache = decorator.getTargetCache();
+        }
+        return cache instanceof TwoLevelCache twoLevelCache ? twoLevelCache : null;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,167 @@
+package com.sisinnov.pms.service;
+
+import com.sisinnov.pms.dto.response.ProjectResponse;
+import com.sisinnov.pms.dto.response.TaskResponse;
+import com.sisinnov.pms.enums.TaskPriority;
+import com.sisinnov.pms.enums.TaskStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidator {
+
+    private final CacheManager cacheManager;
+    private final CacheTagGenerations tagGenerations;
+
+    public Tags tags() {
+        return new Tags();
+    }
+
+    private void evict(String cacheName, Collection<UUID> ids) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        ids.forEach(cache::evict);
+    }
+
+    private <T> void writeThroughAfterCommit(String cacheName, Map<UUID, T> values, Class<T> type, Comparator<T> order) {
+        if (values.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            writeThrough(cacheName, values, type, order);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                writeThrough(cacheName, values, type, order);
+            }
+        });
+    }
+
+    private <T> void writeThrough(String cacheName, Map<UUID, T> values, Class<T> type, Comparator<T> order) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache instanceof TransactionAwareCacheDecorator decorator) {
+            cache = decorator.getTargetCache();
+        }
+        if (cache == null) {
+            return;
+        }
+
+        for (Map.Entry<UUID, T> entry : values.entrySet()) {
+            try {
+                T cached = cache.get(entry.getKey(), type);
+                if (cached != null && order.compare(cached, entry.getValue()) > 0) {
+                    log.debug("CACHE: Keeping newer {} entry for {}", cacheName, entry.getKey());
+                    continue;
+                }
+                cache.put(entry.getKey(), entry.getValue());
+            } catch (RuntimeException e) {
+                log.warn("CACHE: Write-through of {}:{} failed, evicting it instead", cacheName, entry.getKey(), e);
+                evictQuietly(cache, entry.getKey());
+            }
+        }
+    }
+
+    private void evictQuietly(Cache cache, UUID id) {
+        try {
+            cache.evict(id);
+        } catch (RuntimeException e) {
+            log.warn("CACHE: Could not evict {}:{} - it expires with its TTL", cache.getName(), id, e);
+        }
+    }
+
+    public class Tags {
+
+        private final Set<UUID> tasks = new LinkedHashSet<>();
+        private final Set<UUID> projects = new LinkedHashSet<>();
+        private final Map<UUID, TaskResponse> freshTasks = new LinkedHashMap<>();
+        private final Map<UUID, ProjectResponse> freshProjects = new LinkedHashMap<>();
+        private final Set<String> listTags = new LinkedHashSet<>();
+
+        public Tags task(UUID taskId) {
+            tasks.add(taskId);
+            return this;
+        }
+
+        public Tags task(TaskResponse task) {
+            freshTasks.put(task.id(), task);
+            return this;
+        }
+
+        public Tags project(UUID projectId) {
+            projects.add(projectId);
+            return this;
+        }
+
+        public Tags project(ProjectResponse project) {
+            freshProjects.put(project.id(), project);
+            return this;
+        }
+
+        public Tags taskIn(UUID projectId, TaskStatus status, TaskPriority priority) {
+            listTags.add(CacheKeys.ALL_LISTS);
+            listTags.add(CacheKeys.project(projectId));
+            listTags.add(CacheKeys.status(status));
+            listTags.add(CacheKeys.priority(priority));
+            return this;
+        }
+
+        public Tags tasksOf(UUID projectId, Collection<UUID> taskIds) {
+            tasks.addAll(taskIds);
+            listTags.add(CacheKeys.ALL_LISTS);
+            listTags.add(CacheKeys.project(projectId));
+            for (TaskStatus status : TaskStatus.values()) {
+                listTags.add(CacheKeys.status(status));
+            }
+            for (TaskPriority priority : TaskPriority.values()) {
+                listTags.add(CacheKeys.priority(priority));
+            }
+            return this;
+        }
+
+        public Tags user(UUID userId) {
+            listTags.add(CacheKeys.user(userId));
+            return this;
+        }
+
+        public Tags projectLists() {
+            listTags.add(CacheKeys.PROJECT_LISTS);
+            return this;
+        }
+
+        public void invalidate() {
+            log.debug("CACHE: Invalidating tasks {}, projects {}, tags {}; writing through tasks {}, projects {}",
+                    tasks, projects, listTags, freshTasks.keySet(), freshProjects.keySet());
+
+            tasks.removeAll(freshTasks.keySet());
+            projects.removeAll(freshProjects.keySet());
+            evict(CacheKeys.TASKS, tasks);
+            evict(CacheKeys.PROJECTS, projects);
+            writeThroughAfterCommit(CacheKeys.TASKS, freshTasks, TaskResponse.class,
+                    Comparator.comparing(TaskResponse::version, Comparator.nullsFirst(Comparator.naturalOrder())));
+            writeThroughAfterCommit(CacheKeys.PROJECTS, freshProjects, ProjectResponse.class,
+                    Comparator.comparing(ProjectResponse::updatedAt, Comparator.nullsFirst(Comparator.naturalOrder())));
+            tagGenerations.bumpAfterCommit(listTags);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,157 @@
+package com.sisinnov.pms.service;
+
+import com.sisinnov.pms.enums.TaskPriority;
+import com.sisinnov.pms.enums.TaskStatus;
+import com.sisinnov.pms.repository.specification.ProjectSpecification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.OptionalLong;
+import java.util.UUID;
+
+@Component("cacheKeys")
+@RequiredArgsConstructor
+public class CacheKeys {
+
+    public static final String TASKS = "tasks";
+    public static final String PROJECTS = "projects";
+
+    public static final String ALL_LISTS = "all-lists";
+    public static final String PROJECT_LISTS = "project-lists";
+
+    public static final String TASK_LIST_KEY = "taskListKey";
+    public static final String TASK_PAGE_KEY = "taskPageKey";
+    public static final String TASK_SEARCH_KEY = "taskSearchKey";
+    public static final String TASKS_BY_PROJECT_KEY = "tasksByProjectKey";
+    public static final String TASKS_BY_STATUS_KEY = "tasksByStatusKey";
+    public static final String TASKS_BY_PRIORITY_KEY = "tasksByPriorityKey";
+    public static final String TASKS_DUE_SOON_KEY = "tasksDueSoonKey";
+    public static final String PROJECT_LIST_KEY = "projectListKey";
+    public static final String PROJECT_COUNT_KEY = "projectCountKey";
+    public static final String USER_PROJECTS_KEY = "userProjectsKey";
+
+    public static final String UNCACHED = "#uncached";
+
+    private static final char NULL_PART = '~';
+
+    private final CacheTagGenerations tagGenerations;
+
+    public static String project(UUID id) {
+        return "project:" + id;
+    }
+
+    public static String user(UUID id) {
+        return "user:" + id;
+    }
+
+    public static String status(TaskStatus status) {
+        return "status:" + status;
+    }
+
+    public static String priority(TaskPriority priority) {
+        return "priority:" + priority;
+    }
+
+    public String taskList(TaskStatus status, TaskPriority priority, UUID projectId) {
+        StringBuilder key = new StringBuilder(64).append("list");
+        part(key, status);
+        part(key, priority);
+        part(key, projectId);
+        return tagged(key, taskFilterTag(status, priority, projectId));
+    }
+
+    public String taskPage(TaskStatus status, TaskPriority priority, UUID projectId, String cursor, int size) {
+        StringBuilder key = new StringBuilder(96).append("cursor");
+        part(key, status);
+        part(key, priority);
+        part(key, projectId);
+        key.append(':').append(size);
+        text(key, cursor);
+        return tagged(key, taskFilterTag(status, priority, projectId));
+    }
+
+    public String taskSearch(String query, UUID projectId, int limit) {
+        StringBuilder key = new StringBuilder(96).append("search");
+        part(key, projectId);
+        key.append(':').append(limit);
+        text(key, query);
+        return tagged(key, taskFilterTag(null, null, projectId));
+    }
+
+    public String tasksByProject(UUID projectId) {
+        return tagged(new StringBuilder(64).append("project:").append(projectId), taskFilterTag(null, null, projectId));
+    }
+
+    public String tasksByStatus(TaskStatus status) {
+        return tagged(new StringBuilder(32).append("status:").append(status), taskFilterTag(status, null, null));
+    }
+
+    public String tasksByPriority(TaskPriority priority) {
+        return tagged(new StringBuilder(32).append("priority:").append(priority), taskFilterTag(null, priority, null));
+    }
+
+    public String tasksDueSoon(UUID projectId) {
+        return tagged(new StringBuilder(64).append("due-soon:").append(projectId), taskFilterTag(null, null, projectId));
+    }
+
+    public String projectList(String name, String namePrefix, Pageable pageable) {
+        StringBuilder key = new StringBuilder(64).append("list");
+        key.append(':').append(pageable.getPageNumber()).append(':').append(pageable.getPageSize()).append(':');
+        pageable.getSort().forEach(order -> key.append(order.getProperty())
+                .append(order.isAscending() ? '+' : '-'));
+        text(key, ProjectSpecification.normalize(name));
+        text(key, ProjectSpecification.normalize(namePrefix));
+        return tagged(key, PROJECT_LISTS);
+    }
+
+    public String projectCount() {
+        return tagged(new StringBuilder(24).append("count"), PROJECT_LISTS);
+    }
+
+    public String userProjects(UUID userId, UUID after, int limit) {
+        StringBuilder key = new StringBuilder(96).append("member:").append(userId);
+        key.append(':').append(limit);
+        part(key, after);
+        return tagged(key, user(userId));
+    }
+
+    private String taskFilterTag(TaskStatus status, TaskPriority priority, UUID projectId) {
+        if (projectId != null) {
+            return project(projectId);
+        }
+        if (status != null) {
+            return status(status);
+        }
+        if (priority != null) {
+            return priority(priority);
+        }
+        return ALL_LISTS;
+    }
+
+    private static void part(StringBuilder key, Object value) {
+        key.append(':');
+        if (value == null) {
+            key.append(NULL_PART);
+        } else {
+            key.append(value);
+        }
+    }
+
+    private static void text(StringBuilder key, String value) {
+        key.append(':');
+        if (value == null) {
+            key.append(NULL_PART);
+        } else {
+            key.append(value.length()).append('=').append(value);
+        }
+    }
+
+    private String tagged(StringBuilder key, String tag) {
+        OptionalLong generation = tagGenerations.current(tag);
+        if (generation.isEmpty()) {
+            return UNCACHED;
+        }
+        return key.append('#').append(generation.getAsLong()).toString();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,120 @@
+package com.sisinnov.pms.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sisinnov.pms.repository.version.ResourceVersionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+@Slf4j
+@Component
+public class CacheTagGenerations implements MessageListener {
+
+    static final String MESSAGE_TYPE = "cache-tags";
+
+    private static final String KEY_PREFIX = "cache-tag:";
+    private static final String SEPARATOR = "\n";
+    private static final String TAG_SEPARATOR = ",";
+
+    private final ResourceVersionRepository versionRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final boolean broadcast;
+    private final String channel;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Cache<String, Long> local;
+
+    public CacheTagGenerations(
+            ResourceVersionRepository versionRepository,
+            StringRedisTemplate redisTemplate,
+            @Value("${cache.tags.broadcast:true}") boolean broadcast,
+            @Value("${cache.invalidation-channel:cache:invalidation}") String channel,
+            @Value("${cache.tags.local-ttl:PT5S}") Duration localTtl) {
+        this.versionRepository = versionRepository;
+        this.redisTemplate = redisTemplate;
+        this.broadcast = broadcast;
+        this.channel = channel;
+        this.local = Caffeine.newBuilder()
+                .expireAfterWrite(localTtl)
+                .build();
+    }
+
+    public OptionalLong current(String tag) {
+        Long known = local.getIfPresent(tag);
+        if (known != null) {
+            return OptionalLong.of(known);
+        }
+        try {
+            long generation = versionRepository.current(KEY_PREFIX + tag);
+            return OptionalLong.of(local.asMap().merge(tag, generation, Math::max));
+        } catch (RuntimeException e) {
+            log.warn("CACHE: Could not read generation of tag {}: {}", tag, e.getMessage());
+            return OptionalLong.empty();
+        }
+    }
+
+    public void bumpAfterCommit(Collection<String> tags) {
+        if (tags.isEmpty()) {
+            return;
+        }
+        List<String> bumped = List.copyOf(tags);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bump(bumped);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bump(bumped);
+            }
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 3);
+        if (parts.length < 3 || nodeId.equals(parts[0]) || !MESSAGE_TYPE.equals(parts[1])) {
+            return;
+        }
+        local.invalidateAll(List.of(parts[2].split(TAG_SEPARATOR)));
+    }
+
+    private void bump(List<String> tags) {
+        for (String tag : tags) {
+            try {
+                long generation = versionRepository.increment(KEY_PREFIX + tag);
+                local.asMap().merge(tag, generation, Math::max);
+            } catch (RuntimeException e) {
+                local.invalidate(tag);
+                log.warn("CACHE: Could not bump generation of tag {}: {}", tag, e.getMessage());
+            }
+        }
+        publish(tags);
+    }
+
+    private void publish(List<String> tags) {
+        if (!broadcast) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(channel,
+                    nodeId + SEPARATOR + MESSAGE_TYPE + SEPARATOR + String.join(TAG_SEPARATOR, tags));
+        } catch (RuntimeException e) {
+            log.warn("CACHE: Failed to publish new generations of {} - peers reload them within their local TTL",
+                    tags, e);
+        }
+    }
+}
\ No newline at end of file
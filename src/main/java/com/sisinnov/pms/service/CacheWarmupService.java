@@ -0,0 +1,181 @@
+package com.sisinnov.pms.service;
+
+import com.sisinnov.pms.repository.warmup.HotKeyRepository;
+import com.sisinnov.pms.service.query.ProjectQueryService;
+import com.sisinnov.pms.service.query.TaskQueryService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Service
+public class CacheWarmupService {
+
+    public static final Sort PROJECT_PAGE_SORT = Sort.by(Sort.Direction.ASC, "name");
+
+    private static final String TASK = "task";
+    private static final String PROJECT = "project";
+    private static final String PROJECT_TASKS = "project-tasks";
+    private static final String PROJECT_PAGE = "projects-page";
+    private static final String SEPARATOR = ":";
+
+    private final HotKeyRepository hotKeyRepository;
+    private final TaskQueryService taskQueryService;
+    private final ProjectQueryService projectQueryService;
+    private final HotKeySketch sketch;
+    private final boolean enabled;
+    private final int topN;
+    private final int parallelism;
+    private final Duration timeout;
+    private final AtomicInteger total = new AtomicInteger();
+    private final AtomicInteger completed = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+
+    public CacheWarmupService(
+            HotKeyRepository hotKeyRepository,
+            TaskQueryService taskQueryService,
+            ProjectQueryService projectQueryService,
+            MeterRegistry meterRegistry,
+            @Value("${cache.warmup.enabled:true}") boolean enabled,
+            @Value("${cache.warmup.sketch-capacity:5000}") int sketchCapacity,
+            @Value("${cache.warmup.top-n:500}") int topN,
+            @Value("${cache.warmup.parallelism:8}") int parallelism,
+            @Value("${cache.warmup.timeout:PT30S}") Duration timeout) {
+        this.hotKeyRepository = hotKeyRepository;
+        this.taskQueryService = taskQueryService;
+        this.projectQueryService = projectQueryService;
+        this.sketch = new HotKeySketch(sketchCapacity);
+        this.enabled = enabled;
+        this.topN = topN;
+        this.parallelism = parallelism;
+        this.timeout = timeout;
+
+        Gauge.builder("cache.warmup.keys", total, AtomicInteger::get).tag("state", "total").register(meterRegistry);
+        Gauge.builder("cache.warmup.keys", completed, AtomicInteger::get).tag("state", "completed").register(meterRegistry);
+        Gauge.builder("cache.warmup.keys", failed, AtomicInteger::get).tag("state", "failed").register(meterRegistry);
+        Gauge.builder("cache.warmup.progress", this, CacheWarmupService::progress).register(meterRegistry);
+    }
+
+    public void recordTask(UUID taskId) {
+        record(TASK + SEPARATOR + taskId);
+    }
+
+    public void recordProject(UUID projectId) {
+        record(PROJECT + SEPARATOR + projectId);
+    }
+
+    public void recordProjectTasks(UUID projectId) {
+        record(PROJECT_TASKS + SEPARATOR + projectId);
+    }
+
+    public void recordProjectPage(Pageable pageable) {
+        if (PROJECT_PAGE_SORT.equals(pageable.getSort())) {
+            record(PROJECT_PAGE + SEPARATOR + pageable.getPageNumber() + SEPARATOR + pageable.getPageSize());
+        }
+    }
+
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+
+        List<String> keys;
+        try {
+            keys = hotKeyRepository.load(topN);
+        } catch (RuntimeException e) {
+            log.warn("CACHE: Could not read hot keys, starting with cold caches", e);
+            return;
+        }
+        total.set(keys.size());
+        completed.set(0);
+        failed.set(0);
+        if (keys.isEmpty()) {
+            log.info("CACHE: No hot keys recorded yet, skipping warm-up");
+            return;
+        }
+
+        log.info("CACHE: Warming up {} hot keys with {} threads", keys.size(), parallelism);
+        long started = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            CompletableFuture.allOf(keys.stream()
+                            .map(key -> CompletableFuture.runAsync(() -> load(key), executor))
+                            .toArray(CompletableFuture[]::new))
+                    .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("CACHE: Warm-up did not finish within {}, continuing with {} of {} keys loaded",
+                    timeout, completed.get(), keys.size());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("CACHE: Warm-up aborted", e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        log.info("CACHE: Warm-up finished - {} loaded, {} failed in {} ms",
+                completed.get(), failed.get(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    @PreDestroy
+    public void snapshot() {
+        if (!enabled || sketch.size() == 0) {
+            return;
+        }
+
+        Map<String, Long> counts = sketch.topCounts(topN);
+        try {
+            hotKeyRepository.merge(counts);
+            sketch.subtract(counts);
+            log.debug("CACHE: Merged {} hot keys", counts.size());
+        } catch (RuntimeException e) {
+            log.warn("CACHE: Could not merge hot keys, keeping the counts for the next snapshot", e);
+        }
+    }
+
+    private void record(String key) {
+        if (enabled) {
+            sketch.record(key);
+        }
+    }
+
+    private void load(String key) {
+        String[] parts = key.split(SEPARATOR);
+        try {
+            switch (parts[0]) {
+                case TASK -> taskQueryService.findById(UUID.fromString(parts[1]));
+                case PROJECT -> projectQueryService.findById(UUID.fromString(parts[1]));
+                case PROJECT_TASKS -> taskQueryService.findAll(null, null, UUID.fromString(parts[1]));
+                case PROJECT_PAGE -> projectQueryService.findAll(null, null, null, PageRequest.of(
+                        Integer.parseInt(parts[1]), Integer.parseInt(parts[2]), PROJECT_PAGE_SORT));
+                default -> throw new IllegalArgumentException("Unknown hot key type: " + parts[0]);
+            }
+            completed.incrementAndGet();
+        } catch (RuntimeException e) {
+            failed.incrementAndGet();
+            log.debug("CACHE: Failed to warm up {}", key, e);
+        }
+    }
+
+    private double progress() {
+        int keys = total.get();
+        return keys == 0 ? 1.0 : (double) (completed.get() + failed.get()) / keys;
+    }
+}
\ No newline at end of file
@@ -25,13 +25,11 @@ public class EventStoreService {
     public DomainEvent saveTaskEvent(
             String eventType,
             UUID taskId,
+            long version,
             Map<String, Object> eventData,
             Map<String, Object> metadata
     ) {
-        log.debug("EVENT_STORE: Saving {} for task: {}", eventType, taskId);
-
-        Long currentVersion = eventRepository.findLatestVersion(taskId);
-        Long nextVersion = currentVersion + 1;
+        log.debug("EVENT_STORE: Saving {} v{} for task: {}", eventType, version, taskId);
 
         DomainEvent event = DomainEvent.builder()
                 .eventType(eventType)
@@ -39,16 +37,45 @@ public class EventStoreService {
                 .aggregateId(taskId)
                 .eventData(eventData)
                 .metadata(enrichMetadata(metadata))
-                .version(nextVersion)
+                .version(version)
                 .occurredAt(LocalDateTime.now())
                 .build();
 
         event = eventRepository.save(event);
 
-        log.info("EVENT_STORE: Saved {} v{} for task: {}", eventType, nextVersion, taskId);
+        log.info("EVENT_STORE: Saved {} v{} for task: {}", eventType, version, taskId);
         return event;
     }
 
+    @Transactional(propagation = Propagation.REQUIRED)
+    public List<DomainEvent> saveNewTaskEvents(List<DomainEvent> events) {
+        log.debug("EVENT_STORE: Saving {} initial events for new tasks", events.size());
+
+        for (DomainEvent event : events) {
+            event.setVersion(1L);
+            event.setMetadata(enrichMetadata(event.getMetadata()));
+        }
+
+        List<DomainEvent> saved = eventRepository.saveAll(events);
+
+        log.info("EVENT_STORE: Saved {} initial task events", saved.size());
+        return saved;
+    }
+
+    @Transactional(propagation = Propagation.REQUIRED)
+    public List<DomainEvent> saveTaskEvents(List<DomainEvent> events) {
+        log.debug("EVENT_STORE: Saving batch of {} task events", events.size());
+
+        for (DomainEvent event : events) {
+            event.setMetadata(enrichMetadata(event.getMetadata()));
+        }
+
+        List<DomainEvent> saved = eventRepository.saveAll(events);
+
+        log.info("EVENT_STORE: Saved batch of {} task events", saved.size());
+        return saved;
+    }
+
     @Transactional(propagation = Propagation.REQUIRED)
     public DomainEvent saveProjectEvent(
             String eventType,
@@ -124,6 +151,8 @@ public class EventStoreService {
         public static final String PROJECT_CREATED = "PROJECT_CREATED";
         public static final String PROJECT_UPDATED = "PROJECT_UPDATED";
         public static final String PROJECT_DELETED = "PROJECT_DELETED";
+        public static final String PROJECT_MEMBER_ADDED = "PROJECT_MEMBER_ADDED";
+        public static final String PROJECT_MEMBER_REMOVED = "PROJECT_MEMBER_REMOVED";
 
         public static final String USER_REGISTERED = "USER_REGISTERED";
         public static final String USER_LOGGED_IN = "USER_LOGGED_IN";
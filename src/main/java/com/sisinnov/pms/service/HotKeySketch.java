@@ -0,0 +1,76 @@
+package com.sisinnov.pms.service;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+public class HotKeySketch {
+
+    private final int capacity;
+    private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+    private final AtomicBoolean trimming = new AtomicBoolean();
+
+    public HotKeySketch(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public void record(String key) {
+        LongAdder count = counts.get(key);
+        if (count == null) {
+            if (counts.size() >= capacity * 2) {
+                trim();
+            }
+            count = counts.computeIfAbsent(key, k -> new LongAdder());
+        }
+        count.increment();
+    }
+
+    public List<String> top(int limit) {
+        return List.copyOf(topCounts(limit).keySet());
+    }
+
+    public Map<String, Long> topCounts(int limit) {
+        Map<String, Long> top = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue().sum()))
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .forEach(entry -> top.put(entry.getKey(), entry.getValue()));
+        return top;
+    }
+
+    public void subtract(Map<String, Long> drained) {
+        drained.forEach((key, count) -> {
+            LongAdder current = counts.get(key);
+            if (current != null) {
+                current.add(-count);
+            }
+        });
+        counts.values().removeIf(count -> count.sum() <= 0);
+    }
+
+    public int size() {
+        return counts.size();
+    }
+
+    private void trim() {
+        if (!trimming.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            counts.entrySet().stream()
+                    .sorted(Comparator.comparingLong(entry -> entry.getValue().sum()))
+                    .limit(counts.size() - (long) capacity)
+                    .map(Map.Entry::getKey)
+                    .toList()
+                    .forEach(counts::remove);
+        } finally {
+            trimming.set(false);
+        }
+    }
+}
\ No newline at end of file
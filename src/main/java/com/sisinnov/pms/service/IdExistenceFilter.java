@@ -0,0 +1,199 @@
+package com.sisinnov.pms.service;
+
+import com.sisinnov.pms.repository.ProjectRepository;
+import com.sisinnov.pms.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+public class IdExistenceFilter implements MessageListener {
+
+    private static final String TASK = "task";
+    private static final String PROJECT = "project";
+    private static final String SEPARATOR = ":";
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final boolean broadcast;
+    private final String channel;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final long maxAgeNanos;
+    private final Filter tasks = new Filter();
+    private final Filter projects = new Filter();
+
+    public IdExistenceFilter(
+            TaskRepository taskRepository,
+            ProjectRepository projectRepository,
+            StringRedisTemplate redisTemplate,
+            @Value("${id-filter.enabled:true}") boolean enabled,
+            @Value("${id-filter.broadcast:true}") boolean broadcast,
+            @Value("${id-filter.channel:id-filter:additions}") String channel,
+            @Value("${id-filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${id-filter.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${id-filter.max-age:PT12H}") Duration maxAge) {
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.broadcast = broadcast;
+        this.channel = channel;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.maxAgeNanos = maxAge.toNanos();
+    }
+
+    public String channel() {
+        return channel;
+    }
+
+    public boolean mightContainTask(UUID id) {
+        return tasks.mightContain(id);
+    }
+
+    public boolean mightContainProject(UUID id) {
+        return projects.mightContain(id);
+    }
+
+    public void addTask(UUID id) {
+        tasks.add(id);
+        publish(TASK, id);
+    }
+
+    public void addTasks(Collection<UUID> ids) {
+        ids.forEach(this::addTask);
+    }
+
+    public void addProject(UUID id) {
+        projects.add(id);
+        publish(PROJECT, id);
+    }
+
+    public void confirmTask(UUID id) {
+        confirm(tasks, TASK, id);
+    }
+
+    public void confirmProject(UUID id) {
+        confirm(projects, PROJECT, id);
+    }
+
+    @Transactional
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        long started = System.nanoTime();
+        int taskCount = tasks.rebuild(taskRepository::findAllIds);
+        int projectCount = projects.rebuild(projectRepository::findAllIds);
+        log.info("QUERY: Rebuilt id filters with {} tasks and {} projects in {} ms",
+                taskCount, projectCount, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 2);
+        if (parts.length < 2) {
+            return;
+        }
+        try {
+            UUID id = UUID.fromString(parts[1]);
+            if (TASK.equals(parts[0])) {
+                tasks.add(id);
+            } else if (PROJECT.equals(parts[0])) {
+                projects.add(id);
+            }
+        } catch (IllegalArgumentException e) {
+            log.debug("QUERY: Ignoring malformed id filter message", e);
+        }
+    }
+
+    private void confirm(Filter filter, String type, UUID id) {
+        if (!filter.contains(id)) {
+            log.info("QUERY: Id filter missed existing {} {}, adding it", type, id);
+            filter.add(id);
+        }
+    }
+
+    private void publish(String type, UUID id) {
+        if (!enabled || !broadcast) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(channel, type + SEPARATOR + id);
+        } catch (RuntimeException e) {
+            log.warn("QUERY: Failed to broadcast new {} {} to peer id filters", type, id, e);
+        }
+    }
+
+    private final class Filter {
+
+        private volatile IdBloomFilter current;
+        private volatile long builtAt;
+        private Set<UUID> recent = new HashSet<>();
+
+        private boolean mightContain(UUID id) {
+            IdBloomFilter filter = current;
+            if (filter == null || System.nanoTime() - builtAt > maxAgeNanos) {
+                return true;
+            }
+            return filter.mightContain(id);
+        }
+
+        private boolean contains(UUID id) {
+            IdBloomFilter filter = current;
+            return filter == null || filter.mightContain(id);
+        }
+
+        private synchronized void add(UUID id) {
+            if (current != null) {
+                current.add(id);
+            }
+            recent.add(id);
+        }
+
+        private int rebuild(Supplier<List<UUID>> ids) {
+            long started = System.nanoTime();
+            Set<UUID> previous;
+            synchronized (this) {
+                previous = recent;
+                recent = new HashSet<>();
+            }
+            try {
+                List<UUID> existing = ids.get();
+                IdBloomFilter rebuilt = new IdBloomFilter(
+                        Math.max(expectedInsertions, existing.size() * 2L), falsePositiveRate);
+                existing.forEach(rebuilt::add);
+                synchronized (this) {
+                    previous.forEach(rebuilt::add);
+                    recent.forEach(rebuilt::add);
+                    current = rebuilt;
+                    builtAt = started;
+                }
+                return existing.size();
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    recent.addAll(previous);
+                }
+                throw e;
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.sisinnov.pms.service;
+
+import com.sisinnov.pms.repository.ProjectMemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectMembershipService {
+
+    public static final String USER_PROJECTS_CACHE = "user-projects";
+
+    private final ProjectMemberRepository memberRepository;
+    private final CacheInvalidator cacheInvalidator;
+
+    @Transactional(readOnly = true)
+    @Cacheable(value = USER_PROJECTS_CACHE, keyGenerator = CacheKeys.USER_PROJECTS_KEY, sync = true)
+    public List<UUID> findProjectIds(UUID userId, UUID after, int limit) {
+        log.debug("QUERY: Loading up to {} project memberships for user {} after {}", limit, userId, after);
+
+        return after == null
+                ? memberRepository.findProjectIdsByUserId(userId, Limit.of(limit))
+                : memberRepository.findProjectIdsByUserIdAfter(userId, after, Limit.of(limit));
+    }
+
+    public List<UUID> findMemberIds(UUID projectId) {
+        return memberRepository.findUserIdsByProjectId(projectId);
+    }
+
+    public void evict(Collection<UUID> userIds) {
+        CacheInvalidator.Tags tags = cacheInvalidator.tags();
+        userIds.forEach(tags::user);
+        tags.invalidate();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.sisinnov.pms.service;
+
+import com.sisinnov.pms.repository.ProjectRepository;
+import com.sisinnov.pms.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Service
+public class ProjectPurgeService {
+
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final Duration retention;
+    private final int chunkSize;
+
+    public ProjectPurgeService(
+            ProjectRepository projectRepository,
+            TaskRepository taskRepository,
+            @Value("${projects.purge.retention:P30D}") Duration retention,
+            @Value("${projects.purge.chunk-size:1000}") int chunkSize) {
+        this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.retention = retention;
+        this.chunkSize = chunkSize;
+    }
+
+    public LocalDateTime purgeAfter(LocalDateTime deletedAt, boolean permanent) {
+        return permanent ? deletedAt : deletedAt.plus(retention);
+    }
+
+    @Transactional(readOnly = true)
+    public List<UUID> findDueForPurge(int limit) {
+        return projectRepository.findIdsDueForPurge(LocalDateTime.now(), limit);
+    }
+
+    @Transactional
+    public int purgeTaskChunk(UUID projectId) {
+        int deleted = taskRepository.deleteChunkByProjectId(projectId, chunkSize);
+        log.debug("COMMAND: Purged {} tasks of deleted project {}", deleted, projectId);
+        return deleted;
+    }
+
+    @Transactional
+    public boolean purgeProject(UUID projectId) {
+        return projectRepository.deletePurged(projectId) > 0;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.sisinnov.pms.service;
+
+import com.sisinnov.pms.service.query.ProjectQueryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class ProjectSummaryInvalidator {
+
+    private final CacheManager cacheManager;
+
+    public void evict(UUID... projectIds) {
+        evictAll(List.of(projectIds));
+    }
+
+    public void evictAll(Collection<UUID> projectIds) {
+        Cache cache = cacheManager.getCache(ProjectQueryService.SUMMARY_CACHE);
+        if (cache == null) {
+            return;
+        }
+        projectIds.forEach(cache::evict);
+    }
+}
\ No newline at end of file
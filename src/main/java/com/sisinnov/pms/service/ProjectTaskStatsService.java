@@ -0,0 +1,153 @@
+package com.sisinnov.pms.service;
+
+import com.sisinnov.pms.entity.ProjectTaskStats;
+import com.sisinnov.pms.entity.Task;
+import com.sisinnov.pms.enums.TaskPriority;
+import com.sisinnov.pms.enums.TaskStatus;
+import com.sisinnov.pms.repository.ProjectTaskStatsRepository;
+import com.sisinnov.pms.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ProjectTaskStatsService {
+
+    private final ProjectTaskStatsRepository statsRepository;
+    private final TaskRepository taskRepository;
+
+    public void initialize(UUID projectId) {
+        for (TaskStatus status : TaskStatus.values()) {
+            for (TaskPriority priority : TaskPriority.values()) {
+                statsRepository.insertIfAbsent(projectId, status.name(), priority.name());
+            }
+        }
+    }
+
+    public void increment(Task task) {
+        adjust(task.getProject().getId(), task.getStatus(), task.getPriority(), 1);
+    }
+
+    public void incrementAll(Collection<Task> tasks) {
+        Map<ProjectTaskStats.Key, Long> deltas = tasks.stream()
+                .collect(Collectors.groupingBy(
+                        task -> new ProjectTaskStats.Key(task.getProject().getId(), task.getStatus(), task.getPriority()),
+                        Collectors.counting()
+                ));
+        adjustAll(deltas);
+    }
+
+    public void adjustAll(Map<ProjectTaskStats.Key, Long> deltas) {
+        deltas.forEach((key, delta) -> {
+            if (delta != 0) {
+                adjust(key.getProjectId(), key.getStatus(), key.getPriority(), delta);
+            }
+        });
+    }
+
+    public void decrement(Task task) {
+        adjust(task.getProject().getId(), task.getStatus(), task.getPriority(), -1);
+    }
+
+    public void move(UUID oldProjectId, TaskStatus oldStatus, TaskPriority oldPriority, Task task) {
+        UUID newProjectId = task.getProject().getId();
+        if (oldProjectId.equals(newProjectId)
+                && oldStatus == task.getStatus()
+                && oldPriority == task.getPriority()) {
+            return;
+        }
+        adjust(oldProjectId, oldStatus, oldPriority, -1);
+        adjust(newProjectId, task.getStatus(), task.getPriority(), 1);
+    }
+
+    public void moveStatus(UUID projectId, TaskPriority priority, TaskStatus oldStatus, TaskStatus newStatus) {
+        if (oldStatus == newStatus) {
+            return;
+        }
+        adjust(projectId, oldStatus, priority, -1);
+        adjust(projectId, newStatus, priority, 1);
+    }
+
+    public void deleteForProject(UUID projectId) {
+        statsRepository.deleteByProjectId(projectId);
+    }
+
+    @Transactional(readOnly = true)
+    public long count(TaskStatus status, UUID projectId) {
+        if (projectId != null && status != null) {
+            return statsRepository.sumTaskCountByProjectIdAndStatus(projectId, status);
+        }
+        if (projectId != null) {
+            return statsRepository.sumTaskCountByProjectId(projectId);
+        }
+        if (status != null) {
+            return statsRepository.sumTaskCountByStatus(status);
+        }
+        return statsRepository.sumTaskCount();
+    }
+
+    @Transactional(readOnly = true)
+    public Map<UUID, Long> countByProject(Collection<UUID> projectIds) {
+        Map<UUID, Long> counts = new HashMap<>();
+        if (projectIds.isEmpty()) {
+            return counts;
+        }
+        for (Object[] row : statsRepository.sumTaskCountByProjectIds(projectIds)) {
+            counts.put((UUID) row[0], ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
+    public int reconcile(UUID projectId) {
+        Map<ProjectTaskStats.Key, ProjectTaskStats> stored = new HashMap<>();
+        for (ProjectTaskStats row : statsRepository.findByProjectIdForUpdate(projectId)) {
+            stored.put(row.getId(), row);
+        }
+
+        Map<ProjectTaskStats.Key, Long> actual = new HashMap<>();
+        for (Object[] row : taskRepository.countByStatusAndPriority(projectId)) {
+            actual.put(new ProjectTaskStats.Key(projectId, (TaskStatus) row[0], (TaskPriority) row[1]), (Long) row[2]);
+        }
+
+        int repaired = 0;
+        for (TaskStatus status : TaskStatus.values()) {
+            for (TaskPriority priority : TaskPriority.values()) {
+                ProjectTaskStats.Key key = new ProjectTaskStats.Key(projectId, status, priority);
+                long expected = actual.getOrDefault(key, 0L);
+                ProjectTaskStats row = stored.get(key);
+
+                if (row == null) {
+                    statsRepository.save(new ProjectTaskStats(key, expected));
+                    repaired++;
+                } else if (row.getTaskCount() != expected) {
+                    log.warn("STATS: Drift on project {} {}/{}: stored {}, actual {}",
+                            projectId, status, priority, row.getTaskCount(), expected);
+                    row.setTaskCount(expected);
+                    repaired++;
+                }
+            }
+        }
+
+        return repaired;
+    }
+
+    private void adjust(UUID projectId, TaskStatus status, TaskPriority priority, long delta) {
+        int updated = statsRepository.adjustTaskCount(projectId, status, priority, delta);
+        if (updated == 0) {
+            log.warn("STATS: Missing counter for project {} {}/{}, creating it", projectId, status, priority);
+            statsRepository.insertIfAbsent(projectId, status.name(), priority.name());
+            statsRepository.adjustTaskCount(projectId, status, priority, Math.max(delta, 0L));
+        }
+    }
+}
\ No newline at end of file
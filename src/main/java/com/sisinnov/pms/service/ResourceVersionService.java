@@ -0,0 +1,54 @@
+package com.sisinnov.pms.service;
+
+import com.sisinnov.pms.repository.version.ResourceVersionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.OptionalLong;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ResourceVersionService {
+
+    public static final String TASKS = "tasks";
+    public static final String PROJECTS = "projects";
+
+    private final ResourceVersionRepository versionRepository;
+
+    public OptionalLong current(String resource) {
+        try {
+            return OptionalLong.of(versionRepository.current(resource));
+        } catch (RuntimeException e) {
+            log.warn("VERSION: Could not read version of {}: {}", resource, e.getMessage());
+            return OptionalLong.empty();
+        }
+    }
+
+    public void bumpAfterCommit(String... resources) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bump(resources);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bump(resources);
+            }
+        });
+    }
+
+    private void bump(String... resources) {
+        for (String resource : resources) {
+            try {
+                versionRepository.increment(resource);
+            } catch (RuntimeException e) {
+                log.warn("VERSION: Could not bump version of {}: {}", resource, e.getMessage());
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -4,17 +4,30 @@ import com.sisinnov.pms.dto.request.CreateProjectRequest;
 import com.sisinnov.pms.dto.request.UpdateProjectRequest;
 import com.sisinnov.pms.dto.response.ProjectResponse;
 import com.sisinnov.pms.entity.Project;
+import com.sisinnov.pms.entity.ProjectMember;
 import com.sisinnov.pms.exception.ResourceNotFoundException;
 import com.sisinnov.pms.mapper.ProjectMapper;
+import com.sisinnov.pms.repository.ProjectMemberRepository;
 import com.sisinnov.pms.repository.ProjectRepository;
+import com.sisinnov.pms.repository.TaskRepository;
+import com.sisinnov.pms.repository.UserRepository;
+import com.sisinnov.pms.security.CurrentUser;
+import com.sisinnov.pms.service.CacheInvalidator;
 import com.sisinnov.pms.service.EventStoreService;
+import com.sisinnov.pms.service.IdExistenceFilter;
+import com.sisinnov.pms.service.ProjectMembershipService;
+import com.sisinnov.pms.service.ProjectPurgeService;
+import com.sisinnov.pms.service.ProjectSummaryInvalidator;
+import com.sisinnov.pms.service.ProjectTaskStatsService;
+import com.sisinnov.pms.service.ResourceVersionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -25,15 +38,32 @@ import java.util.UUID;
 public class ProjectCommandService {
 
     private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
     private final ProjectMapper projectMapper;
     private final EventStoreService eventStoreService;
+    private final ProjectTaskStatsService statsService;
+    private final ResourceVersionService versionService;
+    private final ProjectPurgeService purgeService;
+    private final ProjectSummaryInvalidator summaryInvalidator;
+    private final ProjectMemberRepository memberRepository;
+    private final ProjectMembershipService membershipService;
+    private final UserRepository userRepository;
+    private final CurrentUser currentUser;
+    private final CacheInvalidator cacheInvalidator;
+    private final IdExistenceFilter idFilter;
 
-    @CacheEvict(value = "projects", allEntries = true)
     public ProjectResponse create(CreateProjectRequest request) {
         log.info("COMMAND: Creating project with name: {}", request.name());
+        versionService.bumpAfterCommit(ResourceVersionService.PROJECTS);
 
         Project project = projectMapper.toEntity(request);
         project = projectRepository.save(project);
+        idFilter.addProject(project.getId());
+        ProjectResponse response = projectMapper.toResponse(project, 0L);
+        statsService.initialize(project.getId());
+        cacheInvalidator.tags().project(project.getId()).projectLists().invalidate();
+        UUID projectId = project.getId();
+        currentUser.id().ifPresent(userId -> addMembership(projectId, userId));
 
         log.debug("COMMAND: Project created with ID: {}", project.getId());
 
@@ -54,12 +84,12 @@ public class ProjectCommandService {
                 metadata
         );
 
-        return projectMapper.toResponse(project);
+        return response;
     }
 
-    @CacheEvict(value = "projects", allEntries = true)
     public ProjectResponse update(UUID id, UpdateProjectRequest request) {
         log.info("COMMAND: Updating project with ID: {}", id);
+        versionService.bumpAfterCommit(ResourceVersionService.PROJECTS, ResourceVersionService.TASKS);
 
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
@@ -82,7 +112,14 @@ public class ProjectCommandService {
         if (request.endDate() != null) {
             project.setEndDate(request.endDate());
         }
-        project = projectRepository.save(project);
+        project = projectRepository.saveAndFlush(project);
+        ProjectResponse response = projectMapper.toResponse(project, statsService.count(null, id));
+        summaryInvalidator.evict(id);
+        CacheInvalidator.Tags tags = cacheInvalidator.tags().project(response).projectLists();
+        if (!project.getName().equals(oldValues.get("name"))) {
+            tags.tasksOf(id, taskRepository.findActiveIdsByProjectId(id));
+        }
+        tags.invalidate();
 
         log.debug("COMMAND: Project updated with ID: {}", id);
 
@@ -106,26 +143,26 @@ public class ProjectCommandService {
                 metadata
         );
 
-        return projectMapper.toResponse(project);
+        return response;
     }
 
-    @CacheEvict(value = "projects", allEntries = true)
     public void delete(UUID id) {
         log.info("COMMAND: Soft deleting project with ID: {}", id);
+        versionService.bumpAfterCommit(ResourceVersionService.PROJECTS, ResourceVersionService.TASKS);
 
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
 
-        Map<String, Object> eventData = new HashMap<>();
-        eventData.put("projectId", project.getId().toString());
-        eventData.put("name", project.getName());
-        eventData.put("description", project.getDescription());
-        eventData.put("startDate", project.getStartDate() != null ? project.getStartDate().toString() : null);
-        eventData.put("endDate", project.getEndDate() != null ? project.getEndDate().toString() : null);
+        LocalDateTime deletedAt = LocalDateTime.now();
+        LocalDateTime purgeAfter = purgeService.purgeAfter(deletedAt, false);
+        int deletedTasks = markDeleted(project, deletedAt, purgeAfter);
+
+        Map<String, Object> eventData = deletedEventData(project, deletedTasks);
 
         Map<String, Object> metadata = new HashMap<>();
         metadata.put("operation", "DELETE");
         metadata.put("deletionType", "SOFT");
+        metadata.put("purgeAfter", purgeAfter.toString());
 
         eventStoreService.saveProjectEvent(
                 EventStoreService.EventTypes.PROJECT_DELETED,
@@ -134,23 +171,20 @@ public class ProjectCommandService {
                 metadata
         );
 
-        projectRepository.delete(project);
-        log.debug("COMMAND: Project soft deleted with ID: {}", id);
+        log.debug("COMMAND: Project soft deleted with ID: {} ({} tasks)", id, deletedTasks);
     }
 
-    @CacheEvict(value = "projects", allEntries = true)
     public void hardDelete(UUID id) {
         log.warn("COMMAND: HARD DELETE project with ID: {} - IRREVERSÍVEL!", id);
+        versionService.bumpAfterCommit(ResourceVersionService.PROJECTS, ResourceVersionService.TASKS);
 
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
 
-        Map<String, Object> eventData = new HashMap<>();
-        eventData.put("projectId", project.getId().toString());
-        eventData.put("name", project.getName());
-        eventData.put("description", project.getDescription());
-        eventData.put("startDate", project.getStartDate() != null ? project.getStartDate().toString() : null);
-        eventData.put("endDate", project.getEndDate() != null ? project.getEndDate().toString() : null);
+        LocalDateTime deletedAt = LocalDateTime.now();
+        int deletedTasks = markDeleted(project, deletedAt, purgeService.purgeAfter(deletedAt, true));
+
+        Map<String, Object> eventData = deletedEventData(project, deletedTasks);
 
         Map<String, Object> metadata = new HashMap<>();
         metadata.put("operation", "HARD_DELETE");
@@ -164,7 +198,74 @@ public class ProjectCommandService {
                 metadata
         );
 
-        projectRepository.deleteById(id);
-        log.debug("COMMAND: Project permanently deleted with ID: {}", id);
+        log.debug("COMMAND: Project {} queued for permanent purge ({} tasks)", id, deletedTasks);
+    }
+
+    public void addMember(UUID projectId, UUID userId) {
+        log.info("COMMAND: Adding user {} to project {}", userId, projectId);
+
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + projectId));
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found with id: " + userId);
+        }
+        if (memberRepository.existsById(new ProjectMember.Key(userId, projectId))) {
+            return;
+        }
+
+        addMembership(projectId, userId);
+
+        eventStoreService.saveProjectEvent(
+                EventStoreService.EventTypes.PROJECT_MEMBER_ADDED,
+                project.getId(),
+                Map.of("projectId", projectId.toString(), "userId", userId.toString()),
+                Map.of("operation", "ADD_MEMBER")
+        );
+    }
+
+    public void removeMember(UUID projectId, UUID userId) {
+        log.info("COMMAND: Removing user {} from project {}", userId, projectId);
+
+        ProjectMember.Key key = new ProjectMember.Key(userId, projectId);
+        if (!memberRepository.existsById(key)) {
+            throw new ResourceNotFoundException("User " + userId + " is not a member of project " + projectId);
+        }
+
+        memberRepository.deleteById(key);
+        membershipService.evict(List.of(userId));
+
+        eventStoreService.saveProjectEvent(
+                EventStoreService.EventTypes.PROJECT_MEMBER_REMOVED,
+                projectId,
+                Map.of("projectId", projectId.toString(), "userId", userId.toString()),
+                Map.of("operation", "REMOVE_MEMBER")
+        );
+    }
+
+    private void addMembership(UUID projectId, UUID userId) {
+        memberRepository.save(new ProjectMember(new ProjectMember.Key(userId, projectId), LocalDateTime.now()));
+        membershipService.evict(List.of(userId));
+    }
+
+    private int markDeleted(Project project, LocalDateTime deletedAt, LocalDateTime purgeAfter) {
+        List<UUID> taskIds = taskRepository.findActiveIdsByProjectId(project.getId());
+        int deletedTasks = taskRepository.softDeleteByProjectId(project.getId(), deletedAt);
+        projectRepository.softDelete(project.getId(), deletedAt, purgeAfter);
+        statsService.deleteForProject(project.getId());
+        summaryInvalidator.evict(project.getId());
+        cacheInvalidator.tags().project(project.getId()).projectLists().tasksOf(project.getId(), taskIds).invalidate();
+        membershipService.evict(membershipService.findMemberIds(project.getId()));
+        return deletedTasks;
+    }
+
+    private Map<String, Object> deletedEventData(Project project, int deletedTasks) {
+        Map<String, Object> eventData = new HashMap<>();
+        eventData.put("projectId", project.getId().toString());
+        eventData.put("name", project.getName());
+        eventData.put("description", project.getDescription());
+        eventData.put("startDate", project.getStartDate() != null ? project.getStartDate().toString() : null);
+        eventData.put("endDate", project.getEndDate() != null ? project.getEndDate().toString() : null);
+        eventData.put("deletedTaskCount", deletedTasks);
+        return eventData;
     }
 }
\ No newline at end of file
@@ -2,28 +2,49 @@ package com.sisinnov.pms.service.command;
 
 import com.sisinnov.pms.dto.request.CreateTaskRequest;
 import com.sisinnov.pms.dto.request.UpdateTaskRequest;
+import com.sisinnov.pms.dto.response.BulkStatusUpdateResponse;
 import com.sisinnov.pms.dto.response.TaskResponse;
+import com.sisinnov.pms.entity.DomainEvent;
 import com.sisinnov.pms.entity.Project;
+import com.sisinnov.pms.entity.ProjectTaskStats;
 import com.sisinnov.pms.entity.Task;
+import com.sisinnov.pms.enums.TaskPriority;
 import com.sisinnov.pms.enums.TaskStatus;
 import com.sisinnov.pms.event.TaskCreatedEvent;
 import com.sisinnov.pms.event.TaskStatusChangedEvent;
 import com.sisinnov.pms.exception.BusinessException;
+import com.sisinnov.pms.exception.ConflictException;
+import com.sisinnov.pms.exception.PreconditionFailedException;
 import com.sisinnov.pms.exception.ResourceNotFoundException;
 import com.sisinnov.pms.mapper.TaskMapper;
 import com.sisinnov.pms.messaging.producer.TaskEventProducer;
 import com.sisinnov.pms.repository.ProjectRepository;
 import com.sisinnov.pms.repository.TaskRepository;
+import com.sisinnov.pms.repository.projection.TaskStatusSnapshot;
+import com.sisinnov.pms.repository.projection.TaskStatusTransition;
+import com.sisinnov.pms.repository.status.TaskStatusTransitionRepository;
+import com.sisinnov.pms.service.CacheInvalidator;
 import com.sisinnov.pms.service.EventStoreService;
+import com.sisinnov.pms.service.IdExistenceFilter;
+import com.sisinnov.pms.service.ProjectSummaryInvalidator;
+import com.sisinnov.pms.service.ProjectTaskStatsService;
+import com.sisinnov.pms.service.ResourceVersionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -36,10 +57,16 @@ public class TaskCommandService {
     private final TaskMapper taskMapper;
     private final TaskEventProducer taskEventProducer;
     private final EventStoreService eventStoreService;
+    private final ProjectTaskStatsService statsService;
+    private final ResourceVersionService versionService;
+    private final TaskStatusTransitionRepository statusTransitionRepository;
+    private final ProjectSummaryInvalidator summaryInvalidator;
+    private final CacheInvalidator cacheInvalidator;
+    private final IdExistenceFilter idFilter;
 
-    @CacheEvict(value = "tasks", allEntries = true)
     public TaskResponse create(CreateTaskRequest request) {
         log.info("COMMAND: Creating task '{}' for project: {}", request.title(), request.projectId());
+        versionService.bumpAfterCommit(ResourceVersionService.TASKS, ResourceVersionService.PROJECTS);
 
         Project project = projectRepository.findById(request.projectId())
                 .orElseThrow(() -> new ResourceNotFoundException(
@@ -48,49 +75,97 @@ public class TaskCommandService {
         Task task = taskMapper.toEntity(request);
         task.setProject(project);
         task = taskRepository.save(task);
+        idFilter.addTask(task.getId());
+        TaskResponse response = taskMapper.toResponse(task);
+        statsService.increment(task);
+        summaryInvalidator.evict(project.getId());
+        cacheInvalidator.tags()
+                .task(response)
+                .project(project.getId())
+                .taskIn(project.getId(), task.getStatus(), task.getPriority())
+                .invalidate();
 
         log.debug("COMMAND: Task created with ID: {}", task.getId());
 
-        Map<String, Object> eventData = new HashMap<>();
-        eventData.put("taskId", task.getId().toString());
-        eventData.put("projectId", task.getProject().getId().toString());
-        eventData.put("title", task.getTitle());
-        eventData.put("description", task.getDescription());
-        eventData.put("status", task.getStatus().toString());
-        eventData.put("priority", task.getPriority().toString());
-        eventData.put("dueDate", task.getDueDate() != null ? task.getDueDate().toString() : null);
-
-        Map<String, Object> metadata = new HashMap<>();
-        metadata.put("operation", "CREATE");
-        metadata.put("projectName", project.getName());
-
         eventStoreService.saveTaskEvent(
                 EventStoreService.EventTypes.TASK_CREATED,
                 task.getId(),
-                eventData,
-                metadata
+                task.getVersion() + 1,
+                createdEventData(task),
+                createdMetadata(project)
         );
 
         TaskCreatedEvent event = TaskCreatedEvent.from(task);
         taskEventProducer.publishTaskCreated(event);
 
-        return taskMapper.toResponse(task);
+        return response;
+    }
+
+    public List<TaskResponse> createBatch(List<CreateTaskRequest> requests) {
+        log.info("COMMAND: Creating batch of {} tasks", requests.size());
+        versionService.bumpAfterCommit(ResourceVersionService.TASKS, ResourceVersionService.PROJECTS);
+
+        Set<UUID> projectIds = requests.stream()
+                .map(CreateTaskRequest::projectId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Map<UUID, Project> projects = projectRepository.findAllById(projectIds).stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+
+        for (UUID projectId : projectIds) {
+            if (!projects.containsKey(projectId)) {
+                throw new ResourceNotFoundException("Project not found with id: " + projectId);
+            }
+        }
+
+        List<Task> tasks = requests.stream()
+                .map(request -> {
+                    Task task = taskMapper.toEntity(request);
+                    task.setProject(projects.get(request.projectId()));
+                    return task;
+                })
+                .toList();
+        tasks = taskRepository.saveAll(tasks);
+        idFilter.addTasks(tasks.stream().map(Task::getId).toList());
+        statsService.incrementAll(tasks);
+        summaryInvalidator.evictAll(projectIds);
+        CacheInvalidator.Tags tags = cacheInvalidator.tags();
+        tasks.forEach(task -> tags
+                .project(task.getProject().getId())
+                .taskIn(task.getProject().getId(), task.getStatus(), task.getPriority()));
+        tags.invalidate();
+
+        log.debug("COMMAND: Batch of {} tasks created", tasks.size());
+
+        eventStoreService.saveNewTaskEvents(tasks.stream()
+                .map(task -> DomainEvent.forTask(
+                        EventStoreService.EventTypes.TASK_CREATED,
+                        task.getId(),
+                        createdEventData(task),
+                        createdMetadata(task.getProject())
+                ))
+                .toList());
+
+        taskEventProducer.publishTaskCreatedBatch(tasks.stream()
+                .map(TaskCreatedEvent::from)
+                .toList());
+
+        return tasks.stream()
+                .map(taskMapper::toResponse)
+                .toList();
     }
 
-    @CacheEvict(value = "tasks", allEntries = true)
     public TaskResponse update(UUID id, UpdateTaskRequest request) {
         log.info("COMMAND: Updating task with ID: {}", id);
 
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
 
-        Map<String, Object> oldValues = new HashMap<>();
-        oldValues.put("title", task.getTitle());
-        oldValues.put("description", task.getDescription());
-        oldValues.put("status", task.getStatus().toString());
-        oldValues.put("priority", task.getPriority().toString());
-        oldValues.put("projectId", task.getProject().getId().toString());
-        oldValues.put("dueDate", task.getDueDate() != null ? task.getDueDate().toString() : null);
+        Map<String, Object> oldValues = trackedValues(task);
+
+        UUID oldProjectId = task.getProject().getId();
+        TaskStatus oldStatus = task.getStatus();
+        TaskPriority oldPriority = task.getPriority();
 
         if (request.projectId() != null && !request.projectId().equals(task.getProject().getId())) {
             Project newProject = projectRepository.findById(request.projectId())
@@ -115,21 +190,33 @@ public class TaskCommandService {
         if (request.dueDate() != null) {
             task.setDueDate(request.dueDate());
         }
-        task = taskRepository.save(task);
+
+        Map<String, Object> newValues = trackedValues(task);
+        if (newValues.equals(oldValues)) {
+            log.debug("COMMAND: Task {} unchanged, skipping update", id);
+            return taskMapper.toResponse(task);
+        }
+
+        versionService.bumpAfterCommit(ResourceVersionService.TASKS, ResourceVersionService.PROJECTS);
+        task = taskRepository.saveAndFlush(task);
+        TaskResponse response = taskMapper.toResponse(task);
+        statsService.move(oldProjectId, oldStatus, oldPriority, task);
+        summaryInvalidator.evict(oldProjectId, task.getProject().getId());
+        CacheInvalidator.Tags tags = cacheInvalidator.tags()
+                .task(response)
+                .taskIn(oldProjectId, oldStatus, oldPriority)
+                .taskIn(task.getProject().getId(), task.getStatus(), task.getPriority());
+        if (!oldProjectId.equals(task.getProject().getId())) {
+            tags.project(oldProjectId).project(task.getProject().getId());
+        }
+        tags.invalidate();
 
         log.debug("COMMAND: Task updated with ID: {}", id);
 
         Map<String, Object> eventData = new HashMap<>();
         eventData.put("taskId", task.getId().toString());
         eventData.put("oldValues", oldValues);
-        eventData.put("newValues", Map.of(
-                "title", task.getTitle(),
-                "description", task.getDescription(),
-                "status", task.getStatus().toString(),
-                "priority", task.getPriority().toString(),
-                "projectId", task.getProject().getId().toString(),
-                "dueDate", task.getDueDate() != null ? task.getDueDate().toString() : null
-        ));
+        eventData.put("newValues", newValues);
 
         Map<String, Object> metadata = new HashMap<>();
         metadata.put("operation", "UPDATE");
@@ -138,56 +225,155 @@ public class TaskCommandService {
         eventStoreService.saveTaskEvent(
                 EventStoreService.EventTypes.TASK_UPDATED,
                 task.getId(),
+                task.getVersion() + 1,
                 eventData,
                 metadata
         );
 
-        return taskMapper.toResponse(task);
+        return response;
     }
 
-    @CacheEvict(value = "tasks", allEntries = true)
     public TaskResponse updateStatus(UUID id, TaskStatus newStatus) {
-        log.info("COMMAND: Updating task {} status to: {}", id, newStatus);
+        return updateStatus(id, newStatus, null, null);
+    }
 
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+    public TaskResponse updateStatus(UUID id, TaskStatus newStatus, TaskStatus expectedStatus, Long expectedVersion) {
+        log.info("COMMAND: Updating task {} status to: {}", id, newStatus);
 
-        TaskStatus oldStatus = task.getStatus();
+        Optional<TaskStatusTransition> result = statusTransitionRepository.transition(
+                id, newStatus, expectedStatus, expectedVersion, LocalDateTime.now());
+        if (result.isEmpty()) {
+            return resolveRejectedTransition(id, newStatus, expectedStatus, expectedVersion);
+        }
 
+        versionService.bumpAfterCommit(ResourceVersionService.TASKS, ResourceVersionService.PROJECTS);
 
-        task.setStatus(newStatus);
-        task = taskRepository.save(task);
+        TaskStatus oldStatus = result.get().oldStatus();
+        TaskResponse task = result.get().task();
+        statsService.moveStatus(task.projectId(), task.priority(), oldStatus, newStatus);
+        summaryInvalidator.evict(task.projectId());
+        cacheInvalidator.tags()
+                .task(task)
+                .taskIn(task.projectId(), oldStatus, task.priority())
+                .taskIn(task.projectId(), newStatus, task.priority())
+                .invalidate();
 
-        log.debug("COMMAND: Task status updated from {} to {}", oldStatus, newStatus);
+        log.debug("COMMAND: Task status updated from {} to {} (v{})", oldStatus, newStatus, task.version());
 
         Map<String, Object> eventData = new HashMap<>();
-        eventData.put("taskId", task.getId().toString());
+        eventData.put("taskId", task.id().toString());
         eventData.put("oldStatus", oldStatus.toString());
         eventData.put("newStatus", newStatus.toString());
-        eventData.put("title", task.getTitle());
-        eventData.put("projectId", task.getProject().getId().toString());
+        eventData.put("title", task.title());
+        eventData.put("projectId", task.projectId().toString());
 
         Map<String, Object> metadata = new HashMap<>();
         metadata.put("operation", "STATUS_CHANGE");
-        metadata.put("projectName", task.getProject().getName());
+        metadata.put("projectName", task.projectName());
         metadata.put("statusTransition", oldStatus + " -> " + newStatus);
 
         eventStoreService.saveTaskEvent(
                 EventStoreService.EventTypes.TASK_STATUS_CHANGED,
-                task.getId(),
+                task.id(),
+                task.version() + 1,
                 eventData,
                 metadata
         );
 
-        TaskStatusChangedEvent event = TaskStatusChangedEvent.from(task, oldStatus, newStatus);
-        taskEventProducer.publishTaskStatusChanged(event);
+        taskEventProducer.publishTaskStatusChanged(
+                TaskStatusChangedEvent.of(task.id(), task.projectId(), oldStatus, newStatus));
+
+        return task;
+    }
+
+    public BulkStatusUpdateResponse updateStatusBatch(List<UUID> ids, TaskStatus newStatus) {
+        log.info("COMMAND: Updating status of {} tasks to: {}", ids.size(), newStatus);
+        versionService.bumpAfterCommit(ResourceVersionService.TASKS, ResourceVersionService.PROJECTS);
+
+        Set<UUID> requested = new LinkedHashSet<>(ids);
+        Map<UUID, TaskStatusSnapshot> snapshots = taskRepository.findStatusSnapshotsForUpdate(requested).stream()
+                .collect(Collectors.toMap(TaskStatusSnapshot::id, Function.identity()));
+
+        List<UUID> notFound = new ArrayList<>();
+        List<UUID> unchanged = new ArrayList<>();
+        List<TaskStatusSnapshot> changed = new ArrayList<>();
+        for (UUID id : requested) {
+            TaskStatusSnapshot snapshot = snapshots.get(id);
+            if (snapshot == null) {
+                notFound.add(id);
+            } else if (snapshot.status() == newStatus) {
+                unchanged.add(id);
+            } else {
+                changed.add(snapshot);
+            }
+        }
+
+        if (changed.isEmpty()) {
+            return new BulkStatusUpdateResponse(newStatus, List.of(), unchanged, notFound);
+        }
+
+        List<UUID> updated = changed.stream().map(TaskStatusSnapshot::id).toList();
+        taskRepository.updateStatusByIds(updated, newStatus, LocalDateTime.now());
 
-        return taskMapper.toResponse(task);
+        Map<ProjectTaskStats.Key, Long> deltas = new HashMap<>();
+        for (TaskStatusSnapshot snapshot : changed) {
+            deltas.merge(new ProjectTaskStats.Key(snapshot.projectId(), snapshot.status(), snapshot.priority()), -1L, Long::sum);
+            deltas.merge(new ProjectTaskStats.Key(snapshot.projectId(), newStatus, snapshot.priority()), 1L, Long::sum);
+        }
+        statsService.adjustAll(deltas);
+        summaryInvalidator.evictAll(changed.stream().map(TaskStatusSnapshot::projectId).collect(Collectors.toSet()));
+        CacheInvalidator.Tags tags = cacheInvalidator.tags();
+        changed.forEach(snapshot -> tags
+                .task(snapshot.id())
+                .taskIn(snapshot.projectId(), snapshot.status(), snapshot.priority())
+                .taskIn(snapshot.projectId(), newStatus, snapshot.priority()));
+        tags.invalidate();
+
+        log.debug("COMMAND: {} tasks moved to {}", updated.size(), newStatus);
+
+        Map<UUID, String> projectNames = projectRepository.findAllById(changed.stream()
+                        .map(TaskStatusSnapshot::projectId)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Project::getId, Project::getName));
+
+        eventStoreService.saveTaskEvents(changed.stream()
+                .map(snapshot -> {
+                    Map<String, Object> eventData = new HashMap<>();
+                    eventData.put("taskId", snapshot.id().toString());
+                    eventData.put("oldStatus", snapshot.status().toString());
+                    eventData.put("newStatus", newStatus.toString());
+                    eventData.put("title", snapshot.title());
+                    eventData.put("projectId", snapshot.projectId().toString());
+
+                    Map<String, Object> metadata = new HashMap<>();
+                    metadata.put("operation", "STATUS_CHANGE");
+                    metadata.put("projectName", projectNames.get(snapshot.projectId()));
+                    metadata.put("statusTransition", snapshot.status() + " -> " + newStatus);
+                    metadata.put("batchSize", changed.size());
+
+                    DomainEvent event = DomainEvent.forTask(
+                            EventStoreService.EventTypes.TASK_STATUS_CHANGED,
+                            snapshot.id(),
+                            eventData,
+                            metadata
+                    );
+                    event.setVersion(snapshot.version() + 2);
+                    return event;
+                })
+                .toList());
+
+        taskEventProducer.publishTaskStatusChangedBatch(changed.stream()
+                .map(snapshot -> TaskStatusChangedEvent.of(
+                        snapshot.id(), snapshot.projectId(), snapshot.status(), newStatus))
+                .toList());
+
+        return new BulkStatusUpdateResponse(newStatus, updated, unchanged, notFound);
     }
 
-    @CacheEvict(value = "tasks", allEntries = true)
     public void delete(UUID id) {
         log.info("COMMAND: Soft deleting task with ID: {}", id);
+        versionService.bumpAfterCommit(ResourceVersionService.TASKS, ResourceVersionService.PROJECTS);
 
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
@@ -209,17 +395,25 @@ public class TaskCommandService {
         eventStoreService.saveTaskEvent(
                 EventStoreService.EventTypes.TASK_DELETED,
                 task.getId(),
+                task.getVersion() + 2,
                 eventData,
                 metadata
         );
 
+        statsService.decrement(task);
+        summaryInvalidator.evict(task.getProject().getId());
+        cacheInvalidator.tags()
+                .task(id)
+                .project(task.getProject().getId())
+                .taskIn(task.getProject().getId(), task.getStatus(), task.getPriority())
+                .invalidate();
         taskRepository.delete(task);
         log.debug("COMMAND: Task soft deleted with ID: {}", id);
     }
 
-    @CacheEvict(value = "tasks", allEntries = true)
     public void hardDelete(UUID id) {
         log.warn("COMMAND: HARD DELETE task with ID: {} - IRREVERSÍVEL!", id);
+        versionService.bumpAfterCommit(ResourceVersionService.TASKS, ResourceVersionService.PROJECTS);
 
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
@@ -242,12 +436,69 @@ public class TaskCommandService {
         eventStoreService.saveTaskEvent(
                 EventStoreService.EventTypes.TASK_DELETED,
                 task.getId(),
+                task.getVersion() + 2,
                 eventData,
                 metadata
         );
 
+        statsService.decrement(task);
+        summaryInvalidator.evict(task.getProject().getId());
+        cacheInvalidator.tags()
+                .task(id)
+                .project(task.getProject().getId())
+                .taskIn(task.getProject().getId(), task.getStatus(), task.getPriority())
+                .invalidate();
         taskRepository.deleteById(id);
         log.debug("COMMAND: Task permanently deleted with ID: {}", id);
     }
 
+    private TaskResponse resolveRejectedTransition(
+            UUID id, TaskStatus newStatus, TaskStatus expectedStatus, Long expectedVersion) {
+        TaskResponse current = taskRepository.findResponseById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+
+        if (expectedVersion != null && !expectedVersion.equals(current.version())) {
+            throw new PreconditionFailedException(
+                    "Task " + id + " is at version " + current.version() + ", expected " + expectedVersion);
+        }
+        if (expectedStatus != null && current.status() != expectedStatus) {
+            throw new ConflictException(
+                    "Task " + id + " is in status " + current.status() + ", expected " + expectedStatus);
+        }
+        if (current.status() == newStatus) {
+            log.debug("COMMAND: Task {} already in status {}, nothing to do", id, newStatus);
+            return current;
+        }
+        throw new ConflictException("Task " + id + " was modified concurrently");
+    }
+
+    private Map<String, Object> trackedValues(Task task) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("title", task.getTitle());
+        values.put("description", task.getDescription());
+        values.put("status", task.getStatus().toString());
+        values.put("priority", task.getPriority().toString());
+        values.put("projectId", task.getProject().getId().toString());
+        values.put("dueDate", task.getDueDate() != null ? task.getDueDate().toString() : null);
+        return values;
+    }
+
+    private Map<String, Object> createdEventData(Task task) {
+        Map<String, Object> eventData = new HashMap<>();
+        eventData.put("taskId", task.getId().toString());
+        eventData.put("projectId", task.getProject().getId().toString());
+        eventData.put("title", task.getTitle());
+        eventData.put("description", task.getDescription());
+        eventData.put("status", task.getStatus().toString());
+        eventData.put("priority", task.getPriority().toString());
+        eventData.put("dueDate", task.getDueDate() != null ? task.getDueDate().toString() : null);
+        return eventData;
+    }
+
+    private Map<String, Object> createdMetadata(Project project) {
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("operation", "CREATE");
+        metadata.put("projectName", project.getName());
+        return metadata;
+    }
 }
\ No newline at end of file
@@ -1,20 +1,45 @@
 package com.sisinnov.pms.service.query;
 
+import com.sisinnov.pms.dto.response.CursorPage;
 import com.sisinnov.pms.dto.response.ProjectResponse;
+import com.sisinnov.pms.dto.response.ProjectSummaryResponse;
+import com.sisinnov.pms.dto.response.TaskResponse;
 import com.sisinnov.pms.entity.Project;
+import com.sisinnov.pms.enums.TaskPriority;
+import com.sisinnov.pms.enums.TaskStatus;
+import com.sisinnov.pms.exception.BusinessException;
 import com.sisinnov.pms.exception.ResourceNotFoundException;
 import com.sisinnov.pms.mapper.ProjectMapper;
 import com.sisinnov.pms.repository.ProjectRepository;
+import com.sisinnov.pms.repository.TaskRepository;
+import com.sisinnov.pms.repository.projection.ProjectField;
+import com.sisinnov.pms.repository.specification.ProjectSpecification;
+import com.sisinnov.pms.repository.specification.TaskSpecification;
+import com.sisinnov.pms.service.CacheKeys;
+import com.sisinnov.pms.service.IdExistenceFilter;
+import com.sisinnov.pms.service.ProjectMembershipService;
+import com.sisinnov.pms.service.ProjectTaskStatsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -22,44 +47,147 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class ProjectQueryService {
 
+    public static final String SUMMARY_CACHE = "project-summaries";
+
+    private static final int NEXT_DUE_LIMIT = 5;
+    private static final Sort DUE_DATE_ORDER = Sort.by("dueDate", "id");
+
     private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
     private final ProjectMapper projectMapper;
+    private final ProjectMembershipService membershipService;
+    private final ProjectTaskStatsService statsService;
+    private final IdExistenceFilter idFilter;
 
-    @Cacheable(value = "projects", key = "#id")
+    @Cacheable(value = "projects", condition = "@idExistenceFilter.mightContainProject(#id)")
     public Optional<ProjectResponse> findById(UUID id) {
         log.debug("QUERY: Finding project by ID: {}", id);
 
+        if (!idFilter.mightContainProject(id)) {
+            log.debug("QUERY: Project {} rejected by the id filter", id);
+            return Optional.empty();
+        }
         return projectRepository.findById(id)
                 .map(project -> {
                     log.debug("QUERY: Project found with ID: {}", id);
-                    return projectMapper.toResponse(project);
+                    idFilter.confirmProject(id);
+                    return toResponse(project);
                 });
     }
 
-    @Cacheable(value = "projects", key = "#id")
     public ProjectResponse findByIdOrThrow(UUID id) {
         log.debug("QUERY: Finding project by ID (throw if not found): {}", id);
 
         return projectRepository.findById(id)
-                .map(projectMapper::toResponse)
+                .map(this::toResponse)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
     }
 
-    @Cacheable(
-            value = "projects",
-            key = "T(String).format('list:%s:%s:%s', #name, #pageable.pageNumber, #pageable.pageSize)"
-    )
-    public Page<ProjectResponse> findAll(Object unused, String name, Pageable pageable) {
-        log.debug("QUERY: Finding all projects - name: {}, page: {}",
-                name, pageable.getPageNumber());
+    @Cacheable(value = SUMMARY_CACHE, sync = true, condition = "@idExistenceFilter.mightContainProject(#id)")
+    public ProjectSummaryResponse findSummary(UUID id) {
+        log.debug("QUERY: Building summary for project: {}", id);
+
+        if (!idFilter.mightContainProject(id)) {
+            throw new ResourceNotFoundException("Project not found with id: " + id);
+        }
+
+        LocalDate today = LocalDate.now();
+        List<Object[]> rows = projectRepository.summarizeTasks(id, today);
+        if (rows.isEmpty()) {
+            throw new ResourceNotFoundException("Project not found with id: " + id);
+        }
+
+        Map<TaskStatus, Map<TaskPriority, Long>> countsByStatusAndPriority = new EnumMap<>(TaskStatus.class);
+        Map<TaskStatus, Long> countsByStatus = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            Map<TaskPriority, Long> byPriority = new EnumMap<>(TaskPriority.class);
+            for (TaskPriority priority : TaskPriority.values()) {
+                byPriority.put(priority, 0L);
+            }
+            countsByStatusAndPriority.put(status, byPriority);
+            countsByStatus.put(status, 0L);
+        }
+
+        String projectName = (String) rows.get(0)[0];
+        long total = 0;
+        long overdue = 0;
+        for (Object[] row : rows) {
+            TaskStatus status = (TaskStatus) row[1];
+            if (status == null) {
+                continue;
+            }
+            long count = ((Number) row[3]).longValue();
+            countsByStatusAndPriority.get(status).put((TaskPriority) row[2], count);
+            countsByStatus.merge(status, count, Long::sum);
+            total += count;
+            if (status != TaskStatus.DONE) {
+                overdue += ((Number) row[4]).longValue();
+            }
+        }
+
+        List<TaskResponse> nextDue = total == 0 ? List.of() : taskRepository.findResponses(
+                TaskSpecification.notDeleted()
+                        .and(TaskSpecification.withProjectId(id))
+                        .and(TaskSpecification.withStatusNot(TaskStatus.DONE))
+                        .and(TaskSpecification.dueDateAfter(today)),
+                DUE_DATE_ORDER,
+                NEXT_DUE_LIMIT
+        );
+
+        return new ProjectSummaryResponse(
+                id,
+                projectName,
+                total,
+                overdue,
+                countsByStatus,
+                countsByStatusAndPriority,
+                nextDue,
+                LocalDateTime.now()
+        );
+    }
+
+    @Cacheable(value = "projects", keyGenerator = CacheKeys.PROJECT_LIST_KEY, sync = true)
+    public Page<ProjectResponse> findAll(Object unused, String name, String namePrefix, Pageable pageable) {
+        log.debug("QUERY: Finding all projects - name: {}, prefix: {}, page: {}",
+                name, namePrefix, pageable.getPageNumber());
+
+        Specification<Project> spec = ProjectSpecification.nameContains(name)
+                .and(ProjectSpecification.nameStartsWith(namePrefix));
+        Page<Project> projects = projectRepository.findAll(spec, pageable);
+
+        log.debug("QUERY: Found {} projects", projects.getTotalElements());
+        Map<UUID, Long> taskCounts = statsService.countByProject(
+                projects.map(Project::getId).getContent());
+        return projects.map(project -> toResponse(project, taskCounts));
+    }
+
+    public Optional<Map<String, Object>> findFieldsById(UUID id, Set<ProjectField> fields) {
+        log.debug("QUERY: Finding project fields {} by ID: {}", fields, id);
+
+        if (!idFilter.mightContainProject(id)) {
+            return Optional.empty();
+        }
+        return projectRepository.findFieldsById(id, fields);
+    }
+
+    public Page<Map<String, Object>> findAllFields(
+            String name,
+            String namePrefix,
+            Set<ProjectField> fields,
+            Pageable pageable
+    ) {
+        log.debug("QUERY: Finding project fields {} - name: {}, prefix: {}, page: {}",
+                fields, name, namePrefix, pageable.getPageNumber());
 
-        Page<Project> projects = projectRepository.findAll(pageable);
+        Specification<Project> spec = ProjectSpecification.nameContains(name)
+                .and(ProjectSpecification.nameStartsWith(namePrefix));
+        Page<Map<String, Object>> projects = projectRepository.findFields(spec, fields, pageable);
 
         log.debug("QUERY: Found {} projects", projects.getTotalElements());
-        return projects.map(projectMapper::toResponse);
+        return projects;
     }
 
-    @Cacheable(value = "projects", key = "'count'")
+    @Cacheable(value = "projects", keyGenerator = CacheKeys.PROJECT_COUNT_KEY, sync = true)
     public long count(Object unused) {
         log.debug("QUERY: Counting all projects");
         return projectRepository.count();
@@ -70,13 +198,43 @@ public class ProjectQueryService {
         return projectRepository.existsById(id);
     }
 
-    @Cacheable(
-            value = "projects",
-            key = "T(String).format('user:%s:%s:%s', #userId, #pageable.pageNumber, #pageable.pageSize)"
-    )
-    public Page<ProjectResponse> findByUserId(UUID userId, Pageable pageable) {
-        log.debug("QUERY: Finding projects for user: {}", userId);
+    public CursorPage<ProjectResponse> findByUserId(UUID userId, String cursor, int size) {
+        log.debug("QUERY: Finding projects for user: {} - size: {}", userId, size);
+
+        UUID after = cursor == null || cursor.isBlank() ? null : decodeCursor(cursor);
+        List<UUID> projectIds = membershipService.findProjectIds(userId, after, size + 1);
+
+        boolean hasNext = projectIds.size() > size;
+        List<UUID> pageIds = hasNext ? projectIds.subList(0, size) : projectIds;
+
+        Map<UUID, Project> projects = projectRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+        Map<UUID, Long> taskCounts = statsService.countByProject(projects.keySet());
+        List<ProjectResponse> page = pageIds.stream()
+                .map(projects::get)
+                .filter(Objects::nonNull)
+                .map(project -> toResponse(project, taskCounts))
+                .toList();
+
+        String nextCursor = hasNext ? pageIds.get(pageIds.size() - 1).toString() : null;
+
+        log.debug("QUERY: Found {} projects for user {}, hasNext: {}", page.size(), userId, hasNext);
+        return CursorPage.of(page, nextCursor);
+    }
+
+    private ProjectResponse toResponse(Project project) {
+        return projectMapper.toResponse(project, statsService.count(null, project.getId()));
+    }
+
+    private ProjectResponse toResponse(Project project, Map<UUID, Long> taskCounts) {
+        return projectMapper.toResponse(project, taskCounts.getOrDefault(project.getId(), 0L));
+    }
 
-        return findAll(null, null, pageable);
+    private UUID decodeCursor(String cursor) {
+        try {
+            return UUID.fromString(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Invalid cursor: " + cursor);
+        }
     }
 }
\ No newline at end of file
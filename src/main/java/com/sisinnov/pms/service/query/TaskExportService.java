@@ -0,0 +1,73 @@
+package com.sisinnov.pms.service.query;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sisinnov.pms.dto.response.TaskResponse;
+import com.sisinnov.pms.entity.Task;
+import com.sisinnov.pms.enums.TaskPriority;
+import com.sisinnov.pms.enums.TaskStatus;
+import com.sisinnov.pms.repository.TaskRepository;
+import com.sisinnov.pms.repository.specification.TaskSpecification;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TaskExportService {
+
+    private static final int FETCH_SIZE = 500;
+    private static final int FLUSH_EVERY = 500;
+    private static final Sort EXPORT_ORDER = Sort.by("createdAt", "id");
+
+    private final TaskRepository taskRepository;
+    private final ObjectMapper objectMapper;
+
+    public long exportNdjson(TaskStatus status, TaskPriority priority, UUID projectId, OutputStream out)
+            throws IOException {
+        log.info("QUERY: Exporting tasks as NDJSON - status: {}, priority: {}, projectId: {}",
+                status, priority, projectId);
+
+        Specification<Task> spec = Specification.where(TaskSpecification.withStatus(status))
+                .and(TaskSpecification.withPriority(priority))
+                .and(TaskSpecification.withProjectId(projectId));
+
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long exported = 0;
+
+        try (Stream<TaskResponse> tasks = taskRepository.streamResponses(spec, EXPORT_ORDER, FETCH_SIZE);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.setRootValueSeparator(new SerializedString("\n"));
+
+            Iterator<TaskResponse> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                writer.writeValue(generator, iterator.next());
+
+                if (++exported % FLUSH_EVERY == 0) {
+                    generator.flush();
+                }
+            }
+
+            if (exported > 0) {
+                generator.writeRaw('\n');
+            }
+        }
+
+        log.info("QUERY: Exported {} tasks", exported);
+        return exported;
+    }
+}
\ No newline at end of file
@@ -1,24 +1,38 @@
 package com.sisinnov.pms.service.query;
 
+import com.sisinnov.pms.dto.response.CursorPage;
+import com.sisinnov.pms.dto.response.TaskDueBucketsResponse;
+import com.sisinnov.pms.dto.response.TaskDueItemResponse;
 import com.sisinnov.pms.dto.response.TaskResponse;
 import com.sisinnov.pms.entity.Task;
 import com.sisinnov.pms.enums.TaskPriority;
 import com.sisinnov.pms.enums.TaskStatus;
+import com.sisinnov.pms.exception.BusinessException;
 import com.sisinnov.pms.exception.ResourceNotFoundException;
-import com.sisinnov.pms.mapper.TaskMapper;
 import com.sisinnov.pms.repository.TaskRepository;
+import com.sisinnov.pms.repository.projection.TaskField;
+import com.sisinnov.pms.repository.search.TaskSearchRepository;
 import com.sisinnov.pms.repository.specification.TaskSpecification;
+import com.sisinnov.pms.service.CacheKeys;
+import com.sisinnov.pms.service.IdExistenceFilter;
+import com.sisinnov.pms.service.ProjectTaskStatsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -26,33 +40,40 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class TaskQueryService {
 
+    private static final Sort KEYSET_ORDER = Sort.by("createdAt", "id");
+    private static final Sort DUE_DATE_ORDER = Sort.by("dueDate", "id");
+    private static final int DUE_SOON_DAYS = 7;
+    private static final int BUCKET_PREVIEW_SIZE = 20;
+
     private final TaskRepository taskRepository;
-    private final TaskMapper taskMapper;
+    private final TaskSearchRepository taskSearchRepository;
+    private final ProjectTaskStatsService statsService;
+    private final IdExistenceFilter idFilter;
 
-    @Cacheable(value = "tasks", key = "#id")
+    @Cacheable(value = "tasks", condition = "@idExistenceFilter.mightContainTask(#id)")
     public Optional<TaskResponse> findById(UUID id) {
         log.debug("QUERY: Finding task by ID: {}", id);
 
-        return taskRepository.findById(id)
-                .map(task -> {
-                    log.debug("QUERY: Task found with ID: {}", id);
-                    return taskMapper.toResponse(task);
-                });
+        if (!idFilter.mightContainTask(id)) {
+            log.debug("QUERY: Task {} rejected by the id filter", id);
+            return Optional.empty();
+        }
+        Optional<TaskResponse> task = taskRepository.findResponseById(id);
+        task.ifPresent(found -> {
+            log.debug("QUERY: Task found with ID: {}", id);
+            idFilter.confirmTask(id);
+        });
+        return task;
     }
 
-    @Cacheable(value = "tasks", key = "#id")
     public TaskResponse findByIdOrThrow(UUID id) {
         log.debug("QUERY: Finding task by ID (throw if not found): {}", id);
 
-        return taskRepository.findById(id)
-                .map(taskMapper::toResponse)
+        return taskRepository.findResponseById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
     }
 
-    @Cacheable(
-            value = "tasks",
-            key = "T(String).format('list:%s:%s:%s', #status, #priority, #projectId)"
-    )
+    @Cacheable(value = "tasks", keyGenerator = CacheKeys.TASK_LIST_KEY, sync = true)
     public List<TaskResponse> findAll(TaskStatus status, TaskPriority priority, UUID projectId) {
         log.debug("QUERY: Finding all tasks - status: {}, priority: {}, projectId: {}",
                 status, priority, projectId);
@@ -71,50 +92,117 @@ public class TaskQueryService {
             spec = spec.and(TaskSpecification.withProjectId(projectId));
         }
 
-        List<Task> tasks = taskRepository.findAll(spec);
+        List<TaskResponse> tasks = taskRepository.findResponses(spec, Sort.unsorted(), 0);
+
+        log.debug("QUERY: Found {} tasks", tasks.size());
+        return tasks;
+    }
+
+    public Optional<Map<String, Object>> findFieldsById(UUID id, Set<TaskField> fields) {
+        log.debug("QUERY: Finding task fields {} by ID: {}", fields, id);
+
+        if (!idFilter.mightContainTask(id)) {
+            return Optional.empty();
+        }
+        return taskRepository.findFields(TaskSpecification.withIds(List.of(id)), fields, Sort.unsorted(), 1)
+                .stream()
+                .findFirst();
+    }
+
+    public List<Map<String, Object>> findAllFields(
+            TaskStatus status,
+            TaskPriority priority,
+            UUID projectId,
+            Set<TaskField> fields
+    ) {
+        log.debug("QUERY: Finding task fields {} - status: {}, priority: {}, projectId: {}",
+                fields, status, priority, projectId);
+
+        Specification<Task> spec = Specification.where(TaskSpecification.withStatus(status))
+                .and(TaskSpecification.withPriority(priority))
+                .and(TaskSpecification.withProjectId(projectId));
+
+        List<Map<String, Object>> tasks = taskRepository.findFields(spec, fields, Sort.unsorted(), 0);
 
         log.debug("QUERY: Found {} tasks", tasks.size());
-        return tasks.stream()
-                .map(taskMapper::toResponse)
-                .collect(Collectors.toList());
+        return tasks;
+    }
+
+    @Cacheable(value = "tasks", keyGenerator = CacheKeys.TASK_PAGE_KEY, sync = true)
+    public CursorPage<TaskResponse> findPage(
+            TaskStatus status,
+            TaskPriority priority,
+            UUID projectId,
+            String cursor,
+            int size
+    ) {
+        log.debug("QUERY: Finding task page - status: {}, priority: {}, projectId: {}, size: {}",
+                status, priority, projectId, size);
+
+        TaskCursor position = TaskCursor.decode(cursor);
+
+        Specification<Task> spec = Specification.where(TaskSpecification.withStatus(status))
+                .and(TaskSpecification.withPriority(priority))
+                .and(TaskSpecification.withProjectId(projectId));
+
+        if (position != null) {
+            spec = spec.and(TaskSpecification.createdAfter(position.createdAt(), position.id()));
+        }
+
+        List<TaskResponse> tasks = taskRepository.findResponses(spec, KEYSET_ORDER, size + 1);
+
+        boolean hasNext = tasks.size() > size;
+        List<TaskResponse> page = hasNext ? tasks.subList(0, size) : tasks;
+
+        String nextCursor = null;
+        if (hasNext) {
+            TaskResponse last = page.get(page.size() - 1);
+            nextCursor = new TaskCursor(last.createdAt(), last.id()).encode();
+        }
+
+        log.debug("QUERY: Found {} tasks in page, hasNext: {}", page.size(), hasNext);
+        return CursorPage.of(List.copyOf(page), nextCursor);
     }
 
-    @Cacheable(value = "tasks", key = "T(String).format('project:%s', #projectId)")
+    @Cacheable(value = "tasks", keyGenerator = CacheKeys.TASK_SEARCH_KEY)
+    public List<TaskResponse> search(String query, UUID projectId, int limit) {
+        log.debug("QUERY: Searching tasks - query: {}, projectId: {}, limit: {}", query, projectId, limit);
+
+        if (query == null || query.isBlank()) {
+            throw new BusinessException("Search query must not be blank");
+        }
+
+        List<TaskResponse> tasks = taskSearchRepository.search(query.trim(), projectId, limit);
+
+        log.debug("QUERY: Search returned {} tasks", tasks.size());
+        return tasks;
+    }
+
+    @Cacheable(value = "tasks", keyGenerator = CacheKeys.TASKS_BY_PROJECT_KEY, sync = true)
     public List<TaskResponse> findByProjectId(UUID projectId) {
         log.debug("QUERY: Finding tasks for project: {}", projectId);
 
         return findAll(null, null, projectId);
     }
 
-    @Cacheable(value = "tasks", key = "T(String).format('status:%s', #status)")
+    @Cacheable(value = "tasks", keyGenerator = CacheKeys.TASKS_BY_STATUS_KEY, sync = true)
     public List<TaskResponse> findByStatus(TaskStatus status) {
         log.debug("QUERY: Finding tasks with status: {}", status);
 
         return findAll(status, null, null);
     }
 
-    @Cacheable(value = "tasks", key = "T(String).format('priority:%s', #priority)")
+    @Cacheable(value = "tasks", keyGenerator = CacheKeys.TASKS_BY_PRIORITY_KEY, sync = true)
     public List<TaskResponse> findByPriority(TaskPriority priority) {
         log.debug("QUERY: Finding tasks with priority: {}", priority);
 
         return findAll(null, priority, null);
     }
 
-    @Cacheable(value = "tasks", key = "T(String).format('count:%s:%s', #status, #projectId)")
     public long count(TaskStatus status, UUID projectId) {
         log.debug("QUERY: Counting tasks - status: {}, projectId: {}", status, projectId);
 
-        Specification<Task> spec = Specification.where(null);
-
-        if (status != null) {
-            spec = spec.and(TaskSpecification.withStatus(status));
-        }
-
-        if (projectId != null) {
-            spec = spec.and(TaskSpecification.withProjectId(projectId));
-        }
-
-        return taskRepository.count(spec);
+        return statsService.count(status, projectId);
     }
 
     public boolean existsById(UUID id) {
@@ -122,10 +210,65 @@ public class TaskQueryService {
         return taskRepository.existsById(id);
     }
 
-    @Cacheable(value = "tasks", key = "T(String).format('due-soon:%s', #projectId)")
+    @Cacheable(value = "tasks", keyGenerator = CacheKeys.TASKS_DUE_SOON_KEY, sync = true)
     public List<TaskResponse> findDueSoon(UUID projectId) {
         log.debug("QUERY: Finding tasks due soon for project: {}", projectId);
 
-        return findAll(null, null, projectId);
+        LocalDate today = LocalDate.now();
+        Specification<Task> spec = openTasks(projectId)
+                .and(TaskSpecification.dueDateAfter(today))
+                .and(TaskSpecification.dueDateBefore(today.plusDays(DUE_SOON_DAYS - 1)));
+
+        List<TaskResponse> tasks = taskRepository.findResponses(spec, DUE_DATE_ORDER, 0);
+
+        log.debug("QUERY: Found {} tasks due soon", tasks.size());
+        return tasks;
+    }
+
+    @Cacheable("task-due-buckets")
+    public TaskDueBucketsResponse findDueBuckets(UUID projectId) {
+        log.debug("QUERY: Computing due buckets for project: {}", projectId);
+
+        return computeDueBuckets(projectId).getOrDefault(
+                projectId, TaskDueBucketsResponse.empty(projectId, LocalDateTime.now()));
+    }
+
+    public Map<UUID, TaskDueBucketsResponse> computeDueBuckets(UUID projectId) {
+        LocalDate today = LocalDate.now();
+        LocalDate horizon = today.plusDays(DUE_SOON_DAYS - 1);
+        LocalDateTime computedAt = LocalDateTime.now();
+
+        List<Object[]> counts = projectId != null
+                ? taskRepository.countDueBucketsByProjectId(projectId, today, horizon, TaskStatus.DONE)
+                : taskRepository.countDueBuckets(today, horizon, TaskStatus.DONE);
+
+        Map<UUID, List<TaskDueItemResponse>> overdue = new HashMap<>();
+        Map<UUID, List<TaskDueItemResponse>> dueThisWeek = new HashMap<>();
+        for (TaskDueItemResponse task : taskRepository.findDuePreviews(projectId, today, horizon, BUCKET_PREVIEW_SIZE)) {
+            Map<UUID, List<TaskDueItemResponse>> bucket = task.dueDate().isBefore(today) ? overdue : dueThisWeek;
+            bucket.computeIfAbsent(task.projectId(), id -> new ArrayList<>()).add(task);
+        }
+
+        Map<UUID, TaskDueBucketsResponse> buckets = new HashMap<>();
+        for (Object[] row : counts) {
+            UUID id = (UUID) row[0];
+            buckets.put(id, new TaskDueBucketsResponse(
+                    id,
+                    ((Number) row[1]).longValue(),
+                    ((Number) row[2]).longValue(),
+                    List.copyOf(overdue.getOrDefault(id, List.of())),
+                    List.copyOf(dueThisWeek.getOrDefault(id, List.of())),
+                    computedAt
+            ));
+        }
+
+        log.debug("QUERY: Computed due buckets for {} projects", buckets.size());
+        return buckets;
+    }
+
+    private Specification<Task> openTasks(UUID projectId) {
+        return TaskSpecification.notDeleted()
+                .and(TaskSpecification.withProjectId(projectId))
+                .and(TaskSpecification.withStatusNot(TaskStatus.DONE));
     }
 }
\ No newline at end of file
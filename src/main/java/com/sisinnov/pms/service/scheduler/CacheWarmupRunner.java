@@ -0,0 +1,28 @@
+package com.sisinnov.pms.service.scheduler;
+
+import com.sisinnov.pms.service.CacheWarmupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CacheWarmupRunner implements ApplicationRunner {
+
+    private final CacheWarmupService cacheWarmupService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        cacheWarmupService.warmUp();
+    }
+
+    @Scheduled(
+            fixedDelayString = "${cache.warmup.snapshot-interval:PT1M}",
+            initialDelayString = "${cache.warmup.snapshot-interval:PT1M}"
+    )
+    public void snapshot() {
+        cacheWarmupService.snapshot();
+    }
+}
\ No newline at end of file
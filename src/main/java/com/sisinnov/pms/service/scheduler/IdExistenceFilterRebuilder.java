@@ -0,0 +1,31 @@
+package com.sisinnov.pms.service.scheduler;
+
+import com.sisinnov.pms.service.IdExistenceFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class IdExistenceFilterRebuilder implements ApplicationRunner {
+
+    private final IdExistenceFilter idFilter;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        idFilter.rebuild();
+    }
+
+    @Scheduled(
+            fixedDelayString = "${id-filter.rebuild-interval:PT6H}",
+            initialDelayString = "${id-filter.rebuild-interval:PT6H}"
+    )
+    public void rebuild() {
+        idFilter.rebuild();
+    }
+}
\ No newline at end of file
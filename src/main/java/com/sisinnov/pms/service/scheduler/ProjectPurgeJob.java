@@ -0,0 +1,74 @@
+package com.sisinnov.pms.service.scheduler;
+
+import com.sisinnov.pms.repository.lock.JobLockRepository;
+import com.sisinnov.pms.service.ProjectPurgeService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Component
+public class ProjectPurgeJob {
+
+    private static final String LOCK_NAME = "project-purge";
+    private static final int PROJECTS_PER_RUN = 20;
+
+    private final ProjectPurgeService purgeService;
+    private final JobLockRepository jobLockRepository;
+    private final Duration lockLease;
+
+    public ProjectPurgeJob(
+            ProjectPurgeService purgeService,
+            JobLockRepository jobLockRepository,
+            @Value("${projects.purge.lock-lease:PT10M}") Duration lockLease) {
+        this.purgeService = purgeService;
+        this.jobLockRepository = jobLockRepository;
+        this.lockLease = lockLease;
+    }
+
+    @Scheduled(
+            fixedDelayString = "${projects.purge.interval:PT1M}",
+            initialDelayString = "${projects.purge.initial-delay:PT30S}"
+    )
+    public void purge() {
+        if (!jobLockRepository.tryAcquire(LOCK_NAME, lockLease)) {
+            log.debug("COMMAND: Project purge running on another node, skipping");
+            return;
+        }
+        try {
+            purgeDueProjects();
+        } finally {
+            jobLockRepository.release(LOCK_NAME);
+        }
+    }
+
+    private void purgeDueProjects() {
+        List<UUID> projectIds = purgeService.findDueForPurge(PROJECTS_PER_RUN);
+        if (projectIds.isEmpty()) {
+            return;
+        }
+
+        log.info("COMMAND: Purging {} deleted projects", projectIds.size());
+
+        for (UUID projectId : projectIds) {
+            try {
+                long tasks = 0;
+                int deleted;
+                do {
+                    deleted = purgeService.purgeTaskChunk(projectId);
+                    tasks += deleted;
+                } while (deleted > 0);
+
+                purgeService.purgeProject(projectId);
+                log.info("COMMAND: Project {} purged with {} tasks", projectId, tasks);
+            } catch (RuntimeException e) {
+                log.error("COMMAND: Failed to purge project {}", projectId, e);
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.sisinnov.pms.service.scheduler;
+
+import com.sisinnov.pms.repository.ProjectRepository;
+import com.sisinnov.pms.service.CacheInvalidator;
+import com.sisinnov.pms.service.ProjectTaskStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectTaskStatsReconciler {
+
+    private final ProjectRepository projectRepository;
+    private final ProjectTaskStatsService statsService;
+    private final CacheInvalidator cacheInvalidator;
+
+    @Scheduled(cron = "${stats.reconcile.cron:0 15 * * * *}")
+    public void reconcile() {
+        List<UUID> projectIds = projectRepository.findAllIds();
+        log.info("STATS: Reconciling task counters for {} projects", projectIds.size());
+
+        int repaired = 0;
+        for (UUID projectId : projectIds) {
+            try {
+                int projectRepaired = statsService.reconcile(projectId);
+                if (projectRepaired > 0) {
+                    cacheInvalidator.tags().project(projectId).invalidate();
+                }
+                repaired += projectRepaired;
+            } catch (RuntimeException e) {
+                log.error("STATS: Failed to reconcile project {}: {}", projectId, e.getMessage());
+            }
+        }
+
+        log.info("STATS: Reconciliation finished, {} counters repaired", repaired);
+    }
+}
\ No newline at end of file
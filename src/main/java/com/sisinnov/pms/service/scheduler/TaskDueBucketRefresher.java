@@ -0,0 +1,70 @@
+package com.sisinnov.pms.service.scheduler;
+
+import com.sisinnov.pms.dto.response.TaskDueBucketsResponse;
+import com.sisinnov.pms.repository.ProjectRepository;
+import com.sisinnov.pms.repository.lock.JobLockRepository;
+import com.sisinnov.pms.service.query.TaskQueryService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+@Slf4j
+@Component
+public class TaskDueBucketRefresher {
+
+    public static final String CACHE_NAME = "task-due-buckets";
+
+    private final ProjectRepository projectRepository;
+    private final TaskQueryService taskQueryService;
+    private final CacheManager cacheManager;
+    private final JobLockRepository jobLockRepository;
+    private final Duration refreshInterval;
+
+    public TaskDueBucketRefresher(
+            ProjectRepository projectRepository,
+            TaskQueryService taskQueryService,
+            CacheManager cacheManager,
+            JobLockRepository jobLockRepository,
+            @Value("${tasks.due-buckets.refresh-interval:PT1M}") Duration refreshInterval) {
+        this.projectRepository = projectRepository;
+        this.taskQueryService = taskQueryService;
+        this.cacheManager = cacheManager;
+        this.jobLockRepository = jobLockRepository;
+        this.refreshInterval = refreshInterval;
+    }
+
+    @Scheduled(
+            fixedDelayString = "${tasks.due-buckets.refresh-interval:PT1M}",
+            initialDelayString = "${tasks.due-buckets.initial-delay:PT10S}"
+    )
+    public void refresh() {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            log.warn("QUERY: Cache {} is not configured, skipping due bucket refresh", CACHE_NAME);
+            return;
+        }
+        if (!jobLockRepository.tryAcquire(CACHE_NAME, refreshInterval)) {
+            log.debug("QUERY: Due buckets refreshed by another node, skipping");
+            return;
+        }
+
+        Map<UUID, TaskDueBucketsResponse> buckets = taskQueryService.computeDueBuckets(null);
+        LocalDateTime computedAt = LocalDateTime.now();
+
+        int projects = 0;
+        for (UUID projectId : projectRepository.findAllIds()) {
+            cache.put(projectId, buckets.getOrDefault(projectId, TaskDueBucketsResponse.empty(projectId, computedAt)));
+            projects++;
+        }
+
+        log.debug("QUERY: Refreshed due buckets for {} projects", projects);
+    }
+}
\ No newline at end of file
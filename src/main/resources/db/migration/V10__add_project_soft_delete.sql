@@ -0,0 +1,14 @@
+ALTER TABLE projects ADD COLUMN deleted BOOLEAN NOT NULL DEFAULT false;
+ALTER TABLE projects ADD COLUMN deleted_at TIMESTAMP;
+ALTER TABLE projects ADD COLUMN purge_after TIMESTAMP;
+
+ALTER TABLE projects DROP CONSTRAINT projects_name_key;
+CREATE UNIQUE INDEX uk_project_name_active ON projects(name) WHERE deleted = false;
+
+CREATE INDEX idx_project_purge_after ON projects(purge_after) WHERE deleted = true;
+
+COMMENT ON COLUMN projects.deleted IS 'Flag de soft delete; as tarefas do projeto são marcadas em lote na mesma transação';
+COMMENT ON COLUMN projects.deleted_at IS 'Momento do soft delete';
+COMMENT ON COLUMN projects.purge_after IS 'A partir de quando o job de expurgo pode remover fisicamente o projeto e suas tarefas';
+COMMENT ON INDEX uk_project_name_active IS 'Nome único apenas entre projetos ativos, permitindo reutilizar o nome de projetos excluídos';
+COMMENT ON INDEX idx_project_purge_after IS 'Busca de projetos excluídos prontos para o expurgo físico';
\ No newline at end of file
@@ -0,0 +1,7 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_project_name_trgm ON projects USING GIN (lower(name) gin_trgm_ops) WHERE deleted = false;
+CREATE INDEX idx_project_name_prefix ON projects (lower(name) text_pattern_ops) WHERE deleted = false;
+
+COMMENT ON INDEX idx_project_name_trgm IS 'Busca por substring sem distinção de maiúsculas no nome do projeto (LIKE ''%termo%'')';
+COMMENT ON INDEX idx_project_name_prefix IS 'Busca por prefixo sem distinção de maiúsculas no nome do projeto (LIKE ''termo%'')';
\ No newline at end of file
@@ -0,0 +1,13 @@
+CREATE TABLE project_members (
+    user_id UUID NOT NULL,
+    project_id UUID NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    CONSTRAINT pk_project_members PRIMARY KEY (user_id, project_id),
+    CONSTRAINT fk_project_members_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT fk_project_members_project FOREIGN KEY (project_id) REFERENCES projects(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_project_members_project_user ON project_members(project_id, user_id);
+
+COMMENT ON TABLE project_members IS 'Vínculo entre usuários e projetos; a listagem "meus projetos" percorre a chave primária (user_id, project_id)';
+COMMENT ON INDEX idx_project_members_project_user IS 'Membros de um projeto, usado para invalidar o cache de cada membro quando o projeto muda';
\ No newline at end of file
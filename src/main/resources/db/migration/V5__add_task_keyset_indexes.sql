@@ -0,0 +1,7 @@
+CREATE INDEX idx_task_created_id ON tasks(created_at, id);
+CREATE INDEX idx_task_project_created_id ON tasks(project_id, created_at, id);
+CREATE INDEX idx_task_status_created_id ON tasks(status, created_at, id);
+
+COMMENT ON INDEX idx_task_created_id IS 'Paginação por cursor (keyset) ordenada por (created_at, id)';
+COMMENT ON INDEX idx_task_project_created_id IS 'Paginação por cursor (keyset) filtrada por projeto';
+COMMENT ON INDEX idx_task_status_created_id IS 'Paginação por cursor (keyset) filtrada por status';
\ No newline at end of file
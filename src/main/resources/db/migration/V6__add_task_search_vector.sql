@@ -0,0 +1,10 @@
+ALTER TABLE tasks ADD COLUMN search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+    ) STORED;
+
+CREATE INDEX idx_task_search_vector ON tasks USING GIN (search_vector);
+
+COMMENT ON COLUMN tasks.search_vector IS 'Vetor de busca textual gerado a partir do título (peso A) e da descrição (peso B)';
+COMMENT ON INDEX idx_task_search_vector IS 'Índice GIN para busca textual ranqueada em tarefas';
\ No newline at end of file
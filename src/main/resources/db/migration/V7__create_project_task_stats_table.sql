@@ -0,0 +1,25 @@
+CREATE TABLE project_task_stats (
+    project_id UUID NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    priority VARCHAR(20) NOT NULL,
+    task_count BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT pk_project_task_stats PRIMARY KEY (project_id, status, priority),
+    CONSTRAINT fk_project_task_stats_project FOREIGN KEY (project_id) REFERENCES projects(id) ON DELETE CASCADE,
+    CONSTRAINT chk_project_task_stats_status CHECK (status IN ('TODO', 'DOING', 'DONE')),
+    CONSTRAINT chk_project_task_stats_priority CHECK (priority IN ('LOW', 'MEDIUM', 'HIGH'))
+);
+
+INSERT INTO project_task_stats (project_id, status, priority, task_count)
+SELECT p.id, s.status, pr.priority, COUNT(t.id)
+FROM projects p
+CROSS JOIN (VALUES ('TODO'), ('DOING'), ('DONE')) AS s(status)
+CROSS JOIN (VALUES ('LOW'), ('MEDIUM'), ('HIGH')) AS pr(priority)
+LEFT JOIN tasks t
+    ON t.project_id = p.id
+   AND t.status = s.status
+   AND t.priority = pr.priority
+   AND t.deleted = false
+GROUP BY p.id, s.status, pr.priority;
+
+COMMENT ON TABLE project_task_stats IS 'Contadores de tarefas por projeto, status e prioridade, mantidos pelos comandos de tarefa';
+COMMENT ON COLUMN project_task_stats.task_count IS 'Quantidade de tarefas ativas (não deletadas) na combinação';
\ No newline at end of file
@@ -0,0 +1,3 @@
+CREATE INDEX idx_task_project_due_date ON tasks(project_id, due_date) WHERE deleted = false;
+
+COMMENT ON INDEX idx_task_project_due_date IS 'Consultas por intervalo de prazo (vencidas e próximas do prazo) por projeto, apenas tarefas ativas';
\ No newline at end of file
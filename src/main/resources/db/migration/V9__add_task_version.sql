@@ -0,0 +1,13 @@
+ALTER TABLE tasks ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+UPDATE tasks t
+SET version = GREATEST(e.latest_version - 1, 0)
+FROM (
+    SELECT aggregate_id, MAX(version) AS latest_version
+    FROM domain_events
+    WHERE aggregate_type = 'TASK'
+    GROUP BY aggregate_id
+) e
+WHERE e.aggregate_id = t.id;
+
+COMMENT ON COLUMN tasks.version IS 'Versão da linha para controle otimista de concorrência; cada evento da tarefa recebe version + 1 da escrita que o gerou, e TASK_DELETED recebe version + 2';
\ No newline at end of file
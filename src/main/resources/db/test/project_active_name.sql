@@ -0,0 +1,2 @@
+ALTER TABLE projects ADD COLUMN active_name VARCHAR(100) GENERATED ALWAYS AS (CASE WHEN deleted = FALSE THEN name END);
+CREATE UNIQUE INDEX uk_project_name_active ON projects(active_name);
\ No newline at end of file
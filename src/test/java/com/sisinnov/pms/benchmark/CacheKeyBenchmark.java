@@ -0,0 +1,120 @@
+package com.sisinnov.pms.benchmark;
+
+import com.sisinnov.pms.config.CacheConfig;
+import com.sisinnov.pms.enums.TaskPriority;
+import com.sisinnov.pms.enums.TaskStatus;
+import com.sisinnov.pms.repository.version.InMemoryResourceVersionRepository;
+import com.sisinnov.pms.service.CacheKeys;
+import com.sisinnov.pms.service.CacheTagGenerations;
+import com.sisinnov.pms.service.query.ProjectQueryService;
+import com.sisinnov.pms.service.query.TaskQueryService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.context.expression.BeanFactoryResolver;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheKeyBenchmark {
+
+    private static final UUID PROJECT_ID = UUID.nameUUIDFromBytes("project-1".getBytes());
+
+    @Param({"task-list", "task-page", "project-list"})
+    public String shape;
+
+    private final ParameterNameDiscoverer parameterNames = new DefaultParameterNameDiscoverer();
+    private final StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+
+    private Object target;
+    private Method method;
+    private Object[] arguments;
+    private Expression expression;
+    private KeyGenerator keyGenerator;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        CacheKeys keys = new CacheKeys(new CacheTagGenerations(
+                new InMemoryResourceVersionRepository(), null, false, "cache:invalidation", Duration.ofMinutes(1)));
+        CacheConfig config = new CacheConfig();
+        beanFactory.addBean("cacheKeys", keys);
+
+        switch (shape) {
+            case "task-list" -> {
+                method = TaskQueryService.class.getMethod("findAll", TaskStatus.class, TaskPriority.class, UUID.class);
+                arguments = new Object[]{TaskStatus.TODO, null, PROJECT_ID};
+                expression = parse("@cacheKeys.taskList(#status, #priority, #projectId)");
+                keyGenerator = config.taskListKey(keys);
+            }
+            case "task-page" -> {
+                method = TaskQueryService.class.getMethod("findPage",
+                        TaskStatus.class, TaskPriority.class, UUID.class, String.class, int.class);
+                arguments = new Object[]{null, TaskPriority.HIGH, PROJECT_ID, "MjAyNC0wNi0wMVQxMjowMHw0Mg", 20};
+                expression = parse("@cacheKeys.taskPage(#status, #priority, #projectId, #cursor, #size)");
+                keyGenerator = config.taskPageKey(keys);
+            }
+            case "project-list" -> {
+                method = ProjectQueryService.class.getMethod("findAll",
+                        Object.class, String.class, String.class, Pageable.class);
+                arguments = new Object[]{null, "Alpha", null, PageRequest.of(2, 20, Sort.by("name"))};
+                expression = parse("@cacheKeys.projectList(#name, #namePrefix, #pageable)");
+                keyGenerator = config.projectListKey(keys);
+            }
+            default -> throw new IllegalArgumentException("Unknown shape: " + shape);
+        }
+        target = new Object();
+    }
+
+    @Benchmark
+    public Object spel() {
+        MethodBasedEvaluationContext context =
+                new MethodBasedEvaluationContext(target, method, arguments, parameterNames);
+        context.setBeanResolver(new BeanFactoryResolver(beanFactory));
+        return expression.getValue(context);
+    }
+
+    @Benchmark
+    public Object keyGenerator() {
+        return keyGenerator.generate(target, method, arguments);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CacheKeyBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+
+    private static Expression parse(String key) {
+        return new SpelExpressionParser().parseExpression(key);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,153 @@
+package com.sisinnov.pms.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sisinnov.pms.config.CacheValueSerializer;
+import com.sisinnov.pms.dto.response.ProjectResponse;
+import com.sisinnov.pms.dto.response.TaskResponse;
+import com.sisinnov.pms.enums.TaskPriority;
+import com.sisinnov.pms.enums.TaskStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheSerializerBenchmark {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 5, 10, 14, 30, 15);
+
+    @Param({"LEGACY_JSON", "JSON", "SMILE", "SMILE_LZ4"})
+    public String codec;
+
+    @Param({"task", "project-page", "task-list"})
+    public String value;
+
+    private RedisSerializer<Object> serializer;
+    private Object payload;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        serializer = serializer(codec);
+        payload = payload(value);
+        encoded = serializer.serialize(payload);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return serializer.serialize(payload);
+    }
+
+    @Benchmark
+    public Object decode() {
+        return serializer.deserialize(encoded);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        System.out.printf("%-12s %-14s %10s%n", "codec", "value", "bytes");
+        for (String codec : new String[]{"LEGACY_JSON", "JSON", "SMILE", "SMILE_LZ4"}) {
+            for (String value : new String[]{"task", "project-page", "task-list"}) {
+                byte[] bytes = serializer(codec).serialize(payload(value));
+                System.out.printf("%-12s %-14s %10d%n", codec, value, bytes.length);
+            }
+        }
+
+        new Runner(new OptionsBuilder()
+                .include(CacheSerializerBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    static RedisSerializer<Object> serializer(String codec) {
+        return switch (codec) {
+            case "LEGACY_JSON" -> legacySerializer();
+            case "JSON" -> new CacheValueSerializer(CacheValueSerializer.Format.JSON, 0);
+            case "SMILE" -> new CacheValueSerializer(CacheValueSerializer.Format.SMILE, 0);
+            case "SMILE_LZ4" -> new CacheValueSerializer(CacheValueSerializer.Format.SMILE, 1024);
+            default -> throw new IllegalArgumentException("Unknown codec: " + codec);
+        };
+    }
+
+    static Object payload(String value) {
+        return switch (value) {
+            case "task" -> task(1);
+            case "project-page" -> new PageImpl<>(
+                    IntStream.range(0, 20).mapToObj(CacheSerializerBenchmark::project).toList(),
+                    PageRequest.of(0, 20, Sort.by("name")),
+                    250
+            );
+            case "task-list" -> IntStream.range(0, 200).mapToObj(CacheSerializerBenchmark::task).toList();
+            default -> throw new IllegalArgumentException("Unknown value: " + value);
+        };
+    }
+
+    private static RedisSerializer<Object> legacySerializer() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.activateDefaultTyping(
+            BasicPolymorphicTypeValidator.builder()
+                .allowIfBaseType(Object.class)
+                .build(),
+            ObjectMapper.DefaultTyping.NON_FINAL,
+            JsonTypeInfo.As.PROPERTY
+        );
+        return new GenericJackson2JsonRedisSerializer(objectMapper);
+    }
+
+    private static TaskResponse task(int index) {
+        return new TaskResponse(
+                UUID.nameUUIDFromBytes(("task-" + index).getBytes()),
+                "Task " + index,
+                "Description of task " + index + " with enough text to look like a real one",
+                TaskStatus.values()[index % 3],
+                TaskPriority.values()[index % 3],
+                LocalDate.of(2024, 6, 1).plusDays(index % 60),
+                UUID.nameUUIDFromBytes(("project-" + index % 5).getBytes()),
+                "Project " + index % 5,
+                NOW,
+                NOW,
+                (long) index
+        );
+    }
+
+    private static ProjectResponse project(int index) {
+        return new ProjectResponse(
+                UUID.nameUUIDFromBytes(("project-" + index).getBytes()),
+                "Project " + index,
+                "Description of project " + index,
+                LocalDate.of(2024, 1, 1),
+                LocalDate.of(2024, 12, 31),
+                index * 3,
+                NOW,
+                NOW
+        );
+    }
+}
\ No newline at end of file
@@ -0,0 +1,164 @@
+package com.sisinnov.pms.config;
+
+import com.sisinnov.pms.dto.response.CursorPage;
+import com.sisinnov.pms.dto.response.ProjectResponse;
+import com.sisinnov.pms.dto.response.ProjectSummaryResponse;
+import com.sisinnov.pms.dto.response.TaskResponse;
+import com.sisinnov.pms.enums.TaskPriority;
+import com.sisinnov.pms.enums.TaskStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Cache Value Serializer Tests")
+class CacheValueSerializerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 5, 10, 14, 30, 15);
+
+    @ParameterizedTest
+    @EnumSource(CacheValueSerializer.Format.class)
+    @DisplayName("Should round-trip cached records, lists and pages")
+    void shouldRoundTripCachedValues(CacheValueSerializer.Format format) {
+        CacheValueSerializer serializer = new CacheValueSerializer(format, 0);
+
+        TaskResponse task = task(1);
+        Page<ProjectResponse> page = new PageImpl<>(
+                List.of(project(1), project(2)),
+                PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "name")),
+                7
+        );
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+        CursorPage<TaskResponse> cursorPage = CursorPage.of(List.of(task(2), task(3)), "next");
+
+        assertThat(roundTrip(serializer, task)).isEqualTo(task);
+        assertThat(roundTrip(serializer, List.of(task, task(4)))).isEqualTo(List.of(task, task(4)));
+        assertThat(roundTrip(serializer, ids)).isEqualTo(ids);
+        assertThat(roundTrip(serializer, cursorPage)).isEqualTo(cursorPage);
+        assertThat(roundTrip(serializer, 42L)).isEqualTo(42L);
+
+        Page<?> restored = (Page<?>) roundTrip(serializer, page);
+        assertThat(restored.getContent()).isEqualTo(page.getContent());
+        assertThat(restored.getTotalElements()).isEqualTo(7);
+        assertThat(restored.getPageable()).isEqualTo(page.getPageable());
+    }
+
+    @Test
+    @DisplayName("Should round-trip enum-keyed summaries")
+    void shouldRoundTripSummaries() {
+        CacheValueSerializer serializer = new CacheValueSerializer(CacheValueSerializer.Format.SMILE, 0);
+
+        Map<TaskStatus, Map<TaskPriority, Long>> byStatusAndPriority = new EnumMap<>(TaskStatus.class);
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            Map<TaskPriority, Long> byPriority = new EnumMap<>(TaskPriority.class);
+            for (TaskPriority priority : TaskPriority.values()) {
+                byPriority.put(priority, 1L);
+            }
+            byStatusAndPriority.put(status, byPriority);
+            byStatus.put(status, 3L);
+        }
+        ProjectSummaryResponse summary = new ProjectSummaryResponse(
+                UUID.randomUUID(), "Project", 9, 1, byStatus, byStatusAndPriority, List.of(task(1)), NOW);
+
+        assertThat(roundTrip(serializer, summary)).isEqualTo(summary);
+    }
+
+    @Test
+    @DisplayName("Should round-trip cache wrappers and tag values with short type ids")
+    void shouldRoundTripWrappersWithShortTypeIds() {
+        CacheValueSerializer serializer = new CacheValueSerializer(CacheValueSerializer.Format.JSON, 0);
+        CachedValue cached = new CachedValue(List.of(task(1)), 12, 34);
+
+        byte[] bytes = serializer.serialize(cached);
+        String json = new String(bytes, 1, bytes.length - 1, StandardCharsets.UTF_8);
+
+        assertThat(serializer.deserialize(bytes)).isEqualTo(cached);
+        assertThat(roundTrip(serializer, MissingValue.INSTANCE)).isEqualTo(MissingValue.INSTANCE);
+        assertThat(json).contains("\"list:response.TaskResponse\"").doesNotContain("com.sisinnov", "java.");
+    }
+
+    @Test
+    @DisplayName("Should refuse types outside the dto package in both directions")
+    void shouldRefuseTypesOutsideDtoPackage() {
+        CacheValueSerializer serializer = new CacheValueSerializer(CacheValueSerializer.Format.JSON, 0);
+        byte[] bytes = serializer.serialize(task(1));
+        byte[] forged = new String(bytes, StandardCharsets.UTF_8)
+                .replace("response.TaskResponse", "java.util.HashMap")
+                .getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> serializer.serialize(new StringBuilder("value")))
+                .isInstanceOf(SerializationException.class);
+        assertThatThrownBy(() -> serializer.deserialize(forged))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    @DisplayName("Should compress large values and stay smaller than JSON")
+    void shouldCompressLargeValues() {
+        List<TaskResponse> tasks = IntStream.range(0, 50).mapToObj(this::task).toList();
+
+        CacheValueSerializer json = new CacheValueSerializer(CacheValueSerializer.Format.JSON, 0);
+        CacheValueSerializer smile = new CacheValueSerializer(CacheValueSerializer.Format.SMILE, 0);
+        CacheValueSerializer compressed = new CacheValueSerializer(CacheValueSerializer.Format.SMILE, 1024);
+
+        byte[] jsonBytes = json.serialize(tasks);
+        byte[] smileBytes = smile.serialize(tasks);
+        byte[] compressedBytes = compressed.serialize(tasks);
+
+        assertThat(smileBytes.length).isLessThan(jsonBytes.length);
+        assertThat(compressedBytes.length).isLessThan(smileBytes.length);
+        assertThat(compressed.deserialize(compressedBytes)).isEqualTo(tasks);
+        assertThat(compressed.deserialize(smile.serialize(tasks))).isEqualTo(tasks);
+    }
+
+    private Object roundTrip(CacheValueSerializer serializer, Object value) {
+        return serializer.deserialize(serializer.serialize(value));
+    }
+
+    private TaskResponse task(int index) {
+        return new TaskResponse(
+                UUID.nameUUIDFromBytes(("task-" + index).getBytes()),
+                "Task " + index,
+                "Description of task " + index,
+                TaskStatus.values()[index % 3],
+                TaskPriority.values()[index % 3],
+                LocalDate.of(2024, 6, 1).plusDays(index),
+                UUID.nameUUIDFromBytes("project".getBytes()),
+                "Project",
+                NOW,
+                NOW,
+                (long) index
+        );
+    }
+
+    private ProjectResponse project(int index) {
+        return new ProjectResponse(
+                UUID.nameUUIDFromBytes(("project-" + index).getBytes()),
+                "Project " + index,
+                "Description",
+                LocalDate.of(2024, 1, 1),
+                null,
+                index,
+                NOW,
+                NOW
+        );
+    }
+}
\ No newline at end of file
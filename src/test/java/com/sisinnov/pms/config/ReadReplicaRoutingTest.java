@@ -0,0 +1,88 @@
+package com.sisinnov.pms.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "datasource.replica.enabled=true",
+        "spring.datasource.url=jdbc:h2:mem:primary;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "datasource.replica.url=jdbc:h2:mem:replica;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "datasource.replica.driver-class-name=org.h2.Driver",
+        "datasource.replica.username=sa",
+        "datasource.replica.lag-query=SELECT 0",
+        "datasource.replica.lag-check-interval=PT1H",
+        "tasks.due-buckets.initial-delay=PT1H"
+})
+@ActiveProfiles("test")
+@DisplayName("Read Replica Routing Tests")
+class ReadReplicaRoutingTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        replicaLagMonitor.check();
+    }
+
+    @Test
+    @DisplayName("Should route read-only transactions to the replica")
+    void shouldRouteReadOnlyTransactionsToReplica() {
+        assertThat(currentDatabase(true)).isEqualTo("REPLICA");
+    }
+
+    @Test
+    @DisplayName("Should route read-write transactions to the primary")
+    void shouldRouteReadWriteTransactionsToPrimary() {
+        assertThat(currentDatabase(false)).isEqualTo("PRIMARY");
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary when the replica is unavailable")
+    void shouldFallBackToPrimaryWhenReplicaUnavailable() {
+        replicaLagMonitor.markUnavailable("test");
+
+        assertThat(currentDatabase(true)).isEqualTo("PRIMARY");
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary when replica lag exceeds the limit")
+    void shouldFallBackToPrimaryWhenReplicaLagExceedsLimit() {
+        ReplicaLagMonitor laggingMonitor = new ReplicaLagMonitor(
+                dataSource, new SimpleMeterRegistry(),
+                "SELECT 60000", Duration.ofSeconds(5));
+
+        laggingMonitor.check();
+
+        assertThat(laggingMonitor.isReplicaAvailable()).isFalse();
+    }
+
+    private String currentDatabase(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status ->
+                jdbcTemplate.queryForObject("SELECT DATABASE()", String.class));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,207 @@
+package com.sisinnov.pms.config;
+
+import com.sisinnov.pms.service.CacheKeys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Two-Level Cache Tests")
+class TwoLevelCacheTest {
+
+    private ConcurrentMapCacheManager remote;
+    private SimpleMeterRegistry meterRegistry;
+    private List<String> published;
+    private TwoLevelCacheManager node;
+    private TwoLevelCacheManager peer;
+
+    @BeforeEach
+    void setUp() {
+        remote = new ConcurrentMapCacheManager("projects");
+        meterRegistry = new SimpleMeterRegistry();
+        published = new ArrayList<>();
+        TwoLevelCacheSettings settings = new TwoLevelCacheSettings(
+                100, Duration.ofMinutes(1), 1.0, Duration.ofSeconds(1), 1.0, 100);
+        node = new TwoLevelCacheManager(remote, published::add, meterRegistry,
+                name -> Duration.ofMinutes(5), value -> String.valueOf(value).length(), settings, CacheLoadLock.NONE);
+        peer = new TwoLevelCacheManager(remote, message -> { }, new SimpleMeterRegistry(),
+                name -> Duration.ofMinutes(5), value -> String.valueOf(value).length(), settings, CacheLoadLock.NONE);
+        node.afterPropertiesSet();
+        peer.afterPropertiesSet();
+    }
+
+    @Test
+    @DisplayName("Should serve repeated reads from the local level")
+    void shouldServeRepeatedReadsFromLocalLevel() {
+        remote.getCache("projects").put("p1", "Project One");
+        Cache cache = node.getCache("projects");
+
+        assertThat(cache.get("p1").get()).isEqualTo("Project One");
+        remote.getCache("projects").evict("p1");
+        assertThat(cache.get("p1").get()).isEqualTo("Project One");
+
+        assertThat(requests("l1", "hit")).isEqualTo(1);
+        assertThat(requests("l1", "miss")).isEqualTo(1);
+        assertThat(requests("l2", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should drop peer local entries when an invalidation is published")
+    void shouldDropPeerLocalEntriesOnInvalidation() {
+        node.getCache("projects").put("p1", "Project One");
+        assertThat(peer.getCache("projects").get("p1").get()).isEqualTo("Project One");
+
+        remote.getCache("projects").put("p1", "Project One (stale in peer)");
+        node.getCache("projects").evict("p1");
+        remote.getCache("projects").put("p1", "Project One v2");
+
+        assertThat(peer.getCache("projects").get("p1").get()).isEqualTo("Project One");
+        published.forEach(message -> peer.onMessage(message(message), null));
+        assertThat(peer.getCache("projects").get("p1").get()).isEqualTo("Project One v2");
+    }
+
+    @Test
+    @DisplayName("Should ignore invalidations published by the same node")
+    void shouldIgnoreOwnInvalidations() {
+        node.getCache("projects").put("p1", "Project One");
+        node.getCache("projects").clear();
+        node.getCache("projects").put("p1", "Project One v2");
+
+        published.forEach(message -> node.onMessage(message(message), null));
+
+        assertThat(node.getCache("projects").get("p1").get()).isEqualTo("Project One v2");
+        assertThat(requests("l1", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should run a single load when concurrent readers miss the same key")
+    void shouldCoalesceConcurrentLoads() throws Exception {
+        Cache cache = node.getCache("projects");
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            List<Future<String>> readers = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                readers.add(executor.submit(() -> cache.get("all", () -> {
+                    loads.incrementAndGet();
+                    release.await();
+                    return "All projects";
+                })));
+            }
+            while (coalescedLoads() < 7) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            for (Future<String> reader : readers) {
+                assertThat(reader.get(5, TimeUnit.SECONDS)).isEqualTo("All projects");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads).hasValue(1);
+        assertThat(cache.get("all").get()).isEqualTo("All projects");
+    }
+
+    @Test
+    @DisplayName("Should refresh an entry early once it is about to expire")
+    void shouldRefreshEntryEarlyNearExpiry() {
+        remote.getCache("projects").put("all", new CachedValue("Old projects", 500, System.currentTimeMillis() + 1));
+        remote.getCache("projects").put("p1", new CachedValue("Project One", 500, System.currentTimeMillis() + 600_000));
+        Cache cache = node.getCache("projects");
+
+        assertThat(cache.get("all", () -> "New projects")).isEqualTo("New projects");
+        assertThat(cache.get("p1", () -> "Project One v2")).isEqualTo("Project One");
+        assertThat(cache.get("all").get()).isEqualTo("New projects");
+    }
+
+    @Test
+    @DisplayName("Should report metrics per key family and rank the hottest and largest keys")
+    void shouldReportMetricsPerKeyFamily() {
+        TwoLevelCache cache = node.caches().get("projects");
+        String id = "6f1c1f2e-8c1b-4a36-9d5e-0c5b7f1a2b3c";
+        cache.put(id, "Project One");
+        cache.put("list:0:20:name+:*:*#1", "A much longer page of projects");
+        cache.get(id);
+        cache.get(id);
+        cache.get("list:0:20:name+:*:*#1");
+        cache.get("count#1");
+
+        assertThat(meterRegistry.get("cache.requests").tag("family", "id").tag("level", "l1").tag("result", "hit")
+                .counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("cache.requests").tag("family", "count").tag("level", "l2").tag("result", "miss")
+                .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.entry.size").tag("family", "list").summary().max()).isEqualTo(30);
+        assertThat(cache.hottestKeys(1)).extracting(CacheKeyStats.KeyStat::key).containsExactly(id);
+        assertThat(cache.largestKeys(1)).extracting(CacheKeyStats.KeyStat::family).containsExactly("list");
+        assertThat(CacheKeyStats.family(id.toUpperCase())).isEqualTo("id");
+        assertThat(CacheKeyStats.family("6f1c1f2e-8c1b-4a36-9d5e-0c5b7f1a2b3g")).isEqualTo("other");
+        assertThat(CacheKeyStats.family("6f1c1f2e08c1b-4a36-9d5e-0c5b7f1a2b3c")).isEqualTo("other");
+    }
+
+    @Test
+    @DisplayName("Should cache missing values remotely only")
+    void shouldCacheMissingValuesRemotelyOnly() {
+        Cache cache = node.getCache("projects");
+        cache.put("missing", null);
+
+        assertThat(remote.getCache("projects").get("missing").get()).isEqualTo(MissingValue.INSTANCE);
+        assertThat(cache.get("missing")).isNotNull();
+        assertThat(cache.get("missing").get()).isNull();
+        assertThat(cache.get("missing", () -> "loaded")).isNull();
+        assertThat(requests("l1", "hit")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should bypass both levels for keys built without a tag generation")
+    void shouldBypassUncachedKeys() {
+        Cache cache = node.getCache("projects");
+
+        cache.put(CacheKeys.UNCACHED, "Project One");
+        assertThat(cache.get(CacheKeys.UNCACHED)).isNull();
+        assertThat(cache.get(CacheKeys.UNCACHED, () -> "loaded")).isEqualTo("loaded");
+        assertThat(cache.get(CacheKeys.UNCACHED, () -> "reloaded")).isEqualTo("reloaded");
+        assertThat(remote.getCache("projects").get(CacheKeys.UNCACHED)).isNull();
+        assertThat(published).isEmpty();
+    }
+
+    private double coalescedLoads() {
+        return meterRegistry.get("cache.loads")
+                .tag("cache", "projects")
+                .tag("outcome", "coalesced")
+                .counter()
+                .count();
+    }
+
+    private double requests(String level, String result) {
+        return meterRegistry.get("cache.requests")
+                .tag("cache", "projects")
+                .tag("level", level)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage("cache:invalidation".getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
\ No newline at end of file
@@ -1,23 +1,37 @@
 package com.sisinnov.pms.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sisinnov.pms.config.EmbeddedRedisConfig;
+import com.sisinnov.pms.dto.request.AddProjectMemberRequest;
 import com.sisinnov.pms.dto.request.CreateProjectRequest;
+import com.sisinnov.pms.dto.request.CreateTaskRequest;
 import com.sisinnov.pms.dto.request.RegisterRequest;
+import com.sisinnov.pms.dto.request.UpdateTaskStatusRequest;
+import com.sisinnov.pms.entity.User;
+import com.sisinnov.pms.enums.TaskPriority;
+import com.sisinnov.pms.enums.TaskStatus;
+import com.sisinnov.pms.enums.UserRole;
 import com.sisinnov.pms.repository.ProjectRepository;
+import com.sisinnov.pms.repository.TaskRepository;
 import com.sisinnov.pms.repository.UserRepository;
+import io.github.bucket4j.Bucket;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
 
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -26,6 +40,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @SpringBootTest
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
+@Import(EmbeddedRedisConfig.class)
 @DisplayName("ProjectController Integration Tests")
 class ProjectControllerTest {
 
@@ -35,16 +50,24 @@ class ProjectControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private TaskRepository taskRepository;
+
     @Autowired
     private ProjectRepository projectRepository;
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private Map<String, Bucket> rateLimitBuckets;
+
     private String jwtToken;
 
     @BeforeEach
     void setUp() throws Exception {
+        rateLimitBuckets.clear();
+        taskRepository.deleteAll();
         projectRepository.deleteAll();
         userRepository.deleteAll();
 
@@ -157,6 +180,37 @@ class ProjectControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(2));
     }
 
+    @Test
+    @DisplayName("Should apply name filters to sparse-field project listings")
+    void shouldFilterSelectedFieldsByName() throws Exception {
+        for (String name : new String[]{"Alpha Project", "Beta Project", "Project Alphabet"}) {
+            mockMvc.perform(post("/api/v1/projects")
+                            .header("Authorization", "Bearer " + jwtToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(
+                                    new CreateProjectRequest(name, "Description", LocalDate.now(), null))))
+                    .andExpect(status().isCreated());
+        }
+
+        mockMvc.perform(get("/api/v1/projects")
+                        .param("fields", "id,name")
+                        .param("name", "ALPHA")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.content[*].name", contains("Alpha Project", "Project Alphabet")))
+                .andExpect(jsonPath("$.content[0].description").doesNotExist());
+
+        mockMvc.perform(get("/api/v1/projects")
+                        .param("fields", "name")
+                        .param("name", "alpha")
+                        .param("namePrefix", "project")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[*].name", contains("Project Alphabet")));
+    }
+
     @Test
     @DisplayName("Should find project by ID")
     void shouldFindProjectById() throws Exception {
@@ -208,4 +262,174 @@ class ProjectControllerTest {
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isUnauthorized());
     }
+
+    @Test
+    @DisplayName("Should summarize project tasks and refresh the summary after a write")
+    void shouldSummarizeProjectTasks() throws Exception {
+        String projectId = createProject("Test Project", jwtToken);
+        createTask(projectId, "Overdue task", TaskStatus.TODO, TaskPriority.HIGH, LocalDate.now().minusDays(2));
+        String dueTaskId = createTask(projectId, "Due tomorrow", TaskStatus.DOING, TaskPriority.LOW, LocalDate.now().plusDays(1));
+        createTask(projectId, "Finished late", TaskStatus.DONE, TaskPriority.HIGH, LocalDate.now().minusDays(5));
+
+        mockMvc.perform(get("/api/v1/projects/" + projectId + "/summary")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalTasks").value(3))
+                .andExpect(jsonPath("$.overdueCount").value(1))
+                .andExpect(jsonPath("$.countsByStatus.TODO").value(1))
+                .andExpect(jsonPath("$.countsByStatusAndPriority.DONE.HIGH").value(1))
+                .andExpect(jsonPath("$.countsByStatusAndPriority.DOING.MEDIUM").value(0))
+                .andExpect(jsonPath("$.nextDueTasks", hasSize(1)))
+                .andExpect(jsonPath("$.nextDueTasks[0].id").value(dueTaskId));
+
+        mockMvc.perform(put("/api/v1/tasks/" + dueTaskId + "/status")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UpdateTaskStatusRequest(TaskStatus.DONE))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/projects/" + projectId + "/summary")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.countsByStatus.DONE").value(2))
+                .andExpect(jsonPath("$.nextDueTasks", hasSize(0)));
+
+        mockMvc.perform(get("/api/v1/projects/00000000-0000-0000-0000-000000000000/summary")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Should list the current user's projects by membership with cursor pagination")
+    void shouldListMyProjectsByMembership() throws Exception {
+        String ownerToken = register("owneruser", "owner@email.com");
+        String memberToken = register("memberuser", "member@email.com");
+        UUID memberId = userRepository.findByUsername("memberuser").orElseThrow().getId();
+
+        createProject("Owner Project A", ownerToken);
+        String sharedProjectId = createProject("Owner Project B", ownerToken);
+        createProject("Owner Project C", ownerToken);
+
+        MvcResult firstPage = mockMvc.perform(get("/api/v1/projects/mine?size=2")
+                        .header("Authorization", "Bearer " + ownerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andReturn();
+        String cursor = objectMapper.readTree(firstPage.getResponse().getContentAsString()).get("nextCursor").asText();
+
+        mockMvc.perform(get("/api/v1/projects/mine?size=2&cursor=" + cursor)
+                        .header("Authorization", "Bearer " + ownerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.hasNext").value(false));
+
+        mockMvc.perform(get("/api/v1/projects/mine")
+                        .header("Authorization", "Bearer " + memberToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(0)));
+
+        mockMvc.perform(post("/api/v1/projects/" + sharedProjectId + "/members")
+                        .header("Authorization", "Bearer " + ownerToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AddProjectMemberRequest(memberId))))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/v1/projects/mine")
+                        .header("Authorization", "Bearer " + memberToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id").value(sharedProjectId));
+
+        mockMvc.perform(delete("/api/v1/projects/" + sharedProjectId)
+                        .header("Authorization", "Bearer " + ownerToken))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/v1/projects/mine")
+                        .header("Authorization", "Bearer " + memberToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(0)));
+
+        mockMvc.perform(get("/api/v1/projects/mine?cursor=not-a-cursor")
+                        .header("Authorization", "Bearer " + memberToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should only let project members and admins change project membership")
+    void shouldRestrictMembershipChangesToMembersAndAdmins() throws Exception {
+        String ownerToken = register("owneruser", "owner@email.com");
+        String outsiderToken = register("outsideruser", "outsider@email.com");
+        String adminToken = register("adminuser", "admin@email.com");
+        UUID ownerId = userRepository.findByUsername("owneruser").orElseThrow().getId();
+        UUID outsiderId = userRepository.findByUsername("outsideruser").orElseThrow().getId();
+        User admin = userRepository.findByUsername("adminuser").orElseThrow();
+        admin.setRole(UserRole.ADMIN);
+        userRepository.save(admin);
+
+        String projectId = createProject("Owner Project", ownerToken);
+
+        mockMvc.perform(post("/api/v1/projects/" + projectId + "/members")
+                        .header("Authorization", "Bearer " + outsiderToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AddProjectMemberRequest(outsiderId))))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(delete("/api/v1/projects/" + projectId + "/members/" + ownerId)
+                        .header("Authorization", "Bearer " + outsiderToken))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(post("/api/v1/projects/" + projectId + "/members")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AddProjectMemberRequest(outsiderId))))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(delete("/api/v1/projects/" + projectId + "/members/" + outsiderId)
+                        .header("Authorization", "Bearer " + ownerToken))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(delete("/api/v1/projects/" + projectId + "/members/" + ownerId)
+                        .header("Authorization", "Bearer " + outsiderToken))
+                .andExpect(status().isForbidden());
+    }
+
+    private String register(String username, String email) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/v1/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RegisterRequest(username, email, "password123"))))
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("token").asText();
+    }
+
+    private String createProject(String name, String token) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/v1/projects")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateProjectRequest(name, "Description", LocalDate.now(), null))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asText();
+    }
+
+    private String createTask(String projectId, String title, TaskStatus status, TaskPriority priority, LocalDate dueDate)
+            throws Exception {
+        CreateTaskRequest request = new CreateTaskRequest(
+                title,
+                "Description",
+                status,
+                priority,
+                dueDate,
+                UUID.fromString(projectId)
+        );
+
+        MvcResult result = mockMvc.perform(post("/api/v1/tasks")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andReturn();
+
+        String response = result.getResponse().getContentAsString();
+        return objectMapper.readTree(response).get("id").asText();
+    }
 }
\ No newline at end of file
@@ -1,7 +1,9 @@
 package com.sisinnov.pms.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sisinnov.pms.dto.request.BulkUpdateTaskStatusRequest;
 import com.sisinnov.pms.dto.request.CreateProjectRequest;
+import com.sisinnov.pms.dto.request.CreateTaskBatchRequest;
 import com.sisinnov.pms.dto.request.CreateTaskRequest;
 import com.sisinnov.pms.dto.request.RegisterRequest;
 import com.sisinnov.pms.dto.request.UpdateTaskStatusRequest;
@@ -10,6 +12,7 @@ import com.sisinnov.pms.enums.TaskStatus;
 import com.sisinnov.pms.repository.ProjectRepository;
 import com.sisinnov.pms.repository.TaskRepository;
 import com.sisinnov.pms.repository.UserRepository;
+import io.github.bucket4j.Bucket;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,8 +25,11 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -49,11 +55,15 @@ class TaskControllerTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private Map<String, Bucket> rateLimitBuckets;
+
     private String jwtToken;
     private String projectId;
 
     @BeforeEach
     void setUp() throws Exception {
+        rateLimitBuckets.clear();
         taskRepository.deleteAll();
         projectRepository.deleteAll();
         userRepository.deleteAll();
@@ -240,13 +250,419 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$[0].title").value("Task 2"));
     }
 
+    @Test
+    @DisplayName("Should page through tasks with cursor")
+    void shouldPageThroughTasksWithCursor() throws Exception {
+        createTask("Task 1", TaskStatus.TODO, TaskPriority.HIGH);
+        createTask("Task 2", TaskStatus.TODO, TaskPriority.MEDIUM);
+        createTask("Task 3", TaskStatus.DOING, TaskPriority.LOW);
+
+        MvcResult firstPage = mockMvc.perform(get("/api/v1/tasks/scroll?size=2")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andReturn();
+
+        String cursor = objectMapper.readTree(firstPage.getResponse().getContentAsString())
+                .get("nextCursor").asText();
+
+        mockMvc.perform(get("/api/v1/tasks/scroll?size=2&cursor=" + cursor)
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.items[0].title").value("Task 3"));
+    }
+
+    @Test
+    @DisplayName("Should return 400 for malformed cursor")
+    void shouldReturn400ForMalformedCursor() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks/scroll?cursor=not-a-cursor")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should export tasks as NDJSON")
+    void shouldExportTasksAsNdjson() throws Exception {
+        createTask("Task 1", TaskStatus.TODO, TaskPriority.HIGH);
+        createTask("Task 2", TaskStatus.DOING, TaskPriority.MEDIUM);
+        createTask("Task 3", TaskStatus.TODO, TaskPriority.LOW);
+
+        MvcResult result = mockMvc.perform(get("/api/v1/tasks/export?status=TODO")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andReturn();
+
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+
+        assertThat(lines).hasSize(2);
+        for (String line : lines) {
+            assertThat(objectMapper.readTree(line).get("status").asText())
+                    .isEqualTo("TODO");
+        }
+    }
+
+    @Test
+    @DisplayName("Should search tasks by title and description")
+    void shouldSearchTasks() throws Exception {
+        createTask("Write release notes", TaskStatus.TODO, TaskPriority.HIGH);
+        createTask("Review pull request", TaskStatus.DOING, TaskPriority.MEDIUM);
+        createTask("Deploy Release build", TaskStatus.TODO, TaskPriority.LOW);
+
+        mockMvc.perform(get("/api/v1/tasks/search")
+                        .param("q", "release")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[*].title", containsInAnyOrder("Write release notes", "Deploy Release build")));
+    }
+
+    @Test
+    @DisplayName("Should return 400 for blank search query")
+    void shouldReturn400ForBlankSearchQuery() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks/search")
+                        .param("q", " ")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should keep task counts in step with writes")
+    void shouldKeepTaskCountsInStepWithWrites() throws Exception {
+        String taskId = createTask("Task 1", TaskStatus.TODO, TaskPriority.HIGH);
+        createTask("Task 2", TaskStatus.TODO, TaskPriority.LOW);
+
+        mockMvc.perform(get("/api/v1/tasks/count?status=TODO&projectId=" + projectId)
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(content().string("2"));
+
+        mockMvc.perform(put("/api/v1/tasks/" + taskId + "/status")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UpdateTaskStatusRequest(TaskStatus.DONE))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/tasks/count?status=TODO&projectId=" + projectId)
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(content().string("1"));
+
+        mockMvc.perform(delete("/api/v1/tasks/" + taskId)
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/v1/tasks/count?projectId=" + projectId)
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(content().string("1"));
+    }
+
+    @Test
+    @DisplayName("Should create tasks in batch")
+    void shouldCreateTasksInBatch() throws Exception {
+        CreateTaskBatchRequest request = new CreateTaskBatchRequest(List.of(
+                taskRequest("Batch task 1", UUID.fromString(projectId)),
+                taskRequest("Batch task 2", UUID.fromString(projectId)),
+                taskRequest("Batch task 3", UUID.fromString(projectId))
+        ));
+
+        mockMvc.perform(post("/api/v1/tasks/batch")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[0].id").exists())
+                .andExpect(jsonPath("$[0].projectName").value("Test Project"));
+
+        mockMvc.perform(get("/api/v1/tasks/count?projectId=" + projectId)
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(content().string("3"));
+    }
+
+    @Test
+    @DisplayName("Should reject the whole batch when a project does not exist")
+    void shouldRejectBatchWithUnknownProject() throws Exception {
+        CreateTaskBatchRequest request = new CreateTaskBatchRequest(List.of(
+                taskRequest("Batch task 1", UUID.fromString(projectId)),
+                taskRequest("Batch task 2", UUID.randomUUID())
+        ));
+
+        mockMvc.perform(post("/api/v1/tasks/batch")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isNotFound());
+
+        assertThat(taskRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should update the status of many tasks at once")
+    void shouldUpdateStatusOfManyTasks() throws Exception {
+        String todo = createTask("Task 1", TaskStatus.TODO, TaskPriority.HIGH);
+        String doing = createTask("Task 2", TaskStatus.DOING, TaskPriority.LOW);
+        String done = createTask("Task 3", TaskStatus.DONE, TaskPriority.LOW);
+        UUID missing = UUID.randomUUID();
+
+        BulkUpdateTaskStatusRequest request = new BulkUpdateTaskStatusRequest(
+                List.of(UUID.fromString(todo), UUID.fromString(doing), UUID.fromString(done), missing),
+                TaskStatus.DONE
+        );
+
+        mockMvc.perform(put("/api/v1/tasks/status")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated", containsInAnyOrder(todo, doing)))
+                .andExpect(jsonPath("$.unchanged", contains(done)))
+                .andExpect(jsonPath("$.notFound", contains(missing.toString())));
+
+        mockMvc.perform(get("/api/v1/tasks/" + todo)
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(jsonPath("$.status").value("DONE"));
+
+        mockMvc.perform(get("/api/v1/tasks/count?status=DONE&projectId=" + projectId)
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(content().string("3"));
+    }
+
+    @Test
+    @DisplayName("Should return only the requested task fields")
+    void shouldReturnOnlyRequestedTaskFields() throws Exception {
+        String taskId = createTask("Task 1", TaskStatus.TODO, TaskPriority.HIGH);
+        createTask("Task 2", TaskStatus.DOING, TaskPriority.LOW);
+
+        mockMvc.perform(get("/api/v1/tasks?fields=id,title,status,projectName")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].title").exists())
+                .andExpect(jsonPath("$[0].projectName").value("Test Project"))
+                .andExpect(jsonPath("$[0].description").doesNotExist())
+                .andExpect(jsonPath("$[0].priority").doesNotExist());
+
+        mockMvc.perform(get("/api/v1/tasks/" + taskId + "?fields=status")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("TODO"))
+                .andExpect(jsonPath("$.id").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Should return 400 for unknown task field")
+    void shouldReturn400ForUnknownTaskField() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks?fields=id,secret")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should list only open tasks due within the week")
+    void shouldListTasksDueSoon() throws Exception {
+        LocalDate today = LocalDate.now();
+        createTask("Overdue task", TaskStatus.TODO, TaskPriority.HIGH, today.minusDays(2));
+        String soon = createTask("Due soon task", TaskStatus.DOING, TaskPriority.HIGH, today.plusDays(3));
+        createTask("Finished task", TaskStatus.DONE, TaskPriority.LOW, today.plusDays(3));
+        createTask("Far away task", TaskStatus.TODO, TaskPriority.LOW, today.plusDays(20));
+
+        mockMvc.perform(get("/api/v1/tasks/due-soon?projectId=" + projectId)
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").value(soon));
+
+        mockMvc.perform(get("/api/v1/tasks/due-buckets?projectId=" + projectId)
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.overdueCount").value(1))
+                .andExpect(jsonPath("$.dueThisWeekCount").value(1))
+                .andExpect(jsonPath("$.overdue[0].title").value("Overdue task"));
+    }
+
+    @Test
+    @DisplayName("Should answer 304 for unchanged task list until a task is written")
+    void shouldAnswerNotModifiedForUnchangedTaskList() throws Exception {
+        createTask("Task 1", TaskStatus.TODO, TaskPriority.HIGH);
+
+        String etag = mockMvc.perform(get("/api/v1/tasks?status=TODO")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/v1/tasks?status=TODO")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        mockMvc.perform(get("/api/v1/tasks?status=DONE")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/tasks?status=TODO")
+                        .header("Authorization", "Bearer " + register("otheruser", "other@email.com"))
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk());
+
+        createTask("Task 2", TaskStatus.TODO, TaskPriority.LOW);
+
+        mockMvc.perform(get("/api/v1/tasks?status=TODO")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)));
+    }
+
+    @Test
+    @DisplayName("Should answer 304 for unchanged task")
+    void shouldAnswerNotModifiedForUnchangedTask() throws Exception {
+        String taskId = createTask("Task 1", TaskStatus.TODO, TaskPriority.HIGH);
+
+        MvcResult result = mockMvc.perform(get("/api/v1/tasks/" + taskId)
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().exists("Last-Modified"))
+                .andReturn();
+
+        mockMvc.perform(get("/api/v1/tasks/" + taskId)
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .header("If-None-Match", result.getResponse().getHeader("ETag")))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(put("/api/v1/tasks/" + taskId + "/status")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UpdateTaskStatusRequest(TaskStatus.DONE))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/tasks/" + taskId)
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .header("If-None-Match", result.getResponse().getHeader("ETag")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("DONE"));
+    }
+
+    @Test
+    @DisplayName("Should update status only when If-Match matches the task version")
+    void shouldUpdateStatusOnlyWhenIfMatchMatches() throws Exception {
+        String taskId = createTask("Task 1", TaskStatus.TODO, TaskPriority.HIGH);
+
+        String etag = mockMvc.perform(get("/api/v1/tasks/" + taskId)
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(0))
+                .andReturn().getResponse().getHeader("ETag");
+
+        String newEtag = mockMvc.perform(put("/api/v1/tasks/" + taskId + "/status")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .header("If-Match", etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UpdateTaskStatusRequest(TaskStatus.DOING))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("DOING"))
+                .andExpect(jsonPath("$.version").value(1))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(put("/api/v1/tasks/" + taskId + "/status")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .header("If-Match", etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UpdateTaskStatusRequest(TaskStatus.DONE))))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(put("/api/v1/tasks/" + taskId + "/status")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .header("If-Match", "W/" + newEtag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UpdateTaskStatusRequest(TaskStatus.DONE))))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(put("/api/v1/tasks/" + taskId + "/status")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .header("If-Match", newEtag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UpdateTaskStatusRequest(TaskStatus.DONE))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("DONE"))
+                .andExpect(jsonPath("$.version").value(2));
+    }
+
+    @Test
+    @DisplayName("Should reject status update when task is not in the expected status")
+    void shouldRejectStatusUpdateWhenExpectedStatusDiffers() throws Exception {
+        String taskId = createTask("Task 1", TaskStatus.DOING, TaskPriority.HIGH);
+
+        mockMvc.perform(put("/api/v1/tasks/" + taskId + "/status")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new UpdateTaskStatusRequest(TaskStatus.DONE, TaskStatus.TODO))))
+                .andExpect(status().isConflict());
+
+        mockMvc.perform(get("/api/v1/tasks/count?status=DOING&projectId=" + projectId)
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(content().string("1"));
+    }
+
+    @Test
+    @DisplayName("Should leave task untouched when status is already the requested one")
+    void shouldLeaveTaskUntouchedWhenStatusUnchanged() throws Exception {
+        String taskId = createTask("Task 1", TaskStatus.TODO, TaskPriority.HIGH);
+
+        mockMvc.perform(put("/api/v1/tasks/" + taskId + "/status")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new UpdateTaskStatusRequest(TaskStatus.TODO, TaskStatus.TODO))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("TODO"))
+                .andExpect(jsonPath("$.version").value(0));
+
+        mockMvc.perform(get("/api/v1/tasks/count?status=TODO&projectId=" + projectId)
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(content().string("1"));
+    }
+
+    private String register(String username, String email) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/v1/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RegisterRequest(username, email, "password123"))))
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("token").asText();
+    }
+
+    private CreateTaskRequest taskRequest(String title, UUID projectId) {
+        return new CreateTaskRequest(
+                title,
+                "Description",
+                TaskStatus.TODO,
+                TaskPriority.MEDIUM,
+                LocalDate.now().plusDays(7),
+                projectId
+        );
+    }
+
     private String createTask(String title, TaskStatus status, TaskPriority priority) throws Exception {
+        return createTask(title, status, priority, LocalDate.now().plusDays(7));
+    }
+
+    private String createTask(String title, TaskStatus status, TaskPriority priority, LocalDate dueDate)
+            throws Exception {
         CreateTaskRequest request = new CreateTaskRequest(
                 title,
                 "Description",
                 status,
                 priority,
-                LocalDate.now().plusDays(7),
+                dueDate,
                 UUID.fromString(projectId)
         );
 
@@ -2,18 +2,33 @@ package com.sisinnov.pms.repository;
 
 import com.sisinnov.pms.config.TestJpaAuditingConfig;
 import com.sisinnov.pms.entity.Project;
+import com.sisinnov.pms.entity.Task;
+import com.sisinnov.pms.enums.TaskPriority;
+import com.sisinnov.pms.enums.TaskStatus;
+import com.sisinnov.pms.exception.BusinessException;
+import com.sisinnov.pms.repository.projection.ProjectField;
+import com.sisinnov.pms.repository.specification.ProjectSpecification;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
 @Import(TestJpaAuditingConfig.class)
@@ -24,6 +39,9 @@ class ProjectRepositoryTest {
     @Autowired
     private ProjectRepository projectRepository;
 
+    @Autowired
+    private TaskRepository taskRepository;
+
     private Project project;
 
     @BeforeEach
@@ -87,4 +105,104 @@ class ProjectRepositoryTest {
 
         assertThat(exists).isFalse();
     }
+
+    @Test
+    @DisplayName("Should return only the requested project fields")
+    void shouldReturnOnlyRequestedFields() {
+        Page<Map<String, Object>> page = projectRepository.findFields(
+                Specification.where(null),
+                EnumSet.of(ProjectField.ID, ProjectField.NAME, ProjectField.TASK_COUNT),
+                PageRequest.of(0, 10, Sort.by("name"))
+        );
+
+        assertThat(page.getTotalElements()).isEqualTo(1);
+        assertThat(page.getContent().get(0))
+                .containsOnlyKeys("id", "name", "taskCount")
+                .containsEntry("name", "Test Project")
+                .containsEntry("taskCount", 0);
+    }
+
+    @Test
+    @DisplayName("Should sort selected fields by known properties only")
+    void shouldRejectUnknownSortProperties() {
+        Page<Map<String, Object>> page = projectRepository.findFields(
+                Specification.where(null),
+                EnumSet.of(ProjectField.NAME),
+                PageRequest.of(0, 10, Sort.by(Sort.Order.desc("taskCount"), Sort.Order.asc("name").ignoreCase()))
+        );
+
+        assertThat(page.getContent()).extracting(row -> row.get("name")).containsExactly("Test Project");
+        assertThatThrownBy(() -> projectRepository.findFields(
+                Specification.where(null),
+                EnumSet.of(ProjectField.NAME), PageRequest.of(0, 10, Sort.by("password"))))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("password");
+    }
+
+    @Test
+    @DisplayName("Should find requested project fields by ID")
+    void shouldFindRequestedFieldsById() {
+        Optional<Map<String, Object>> found = projectRepository.findFieldsById(
+                project.getId(), EnumSet.of(ProjectField.NAME, ProjectField.START_DATE));
+
+        assertThat(found).isPresent();
+        assertThat(found.get())
+                .containsOnlyKeys("name", "startDate")
+                .containsEntry("startDate", project.getStartDate());
+    }
+
+    @Test
+    @DisplayName("Should hide soft deleted project and its tasks, then purge them in chunks")
+    void shouldSoftDeleteAndPurgeInChunks() {
+        for (int i = 0; i < 5; i++) {
+            Task task = new Task();
+            task.setTitle("Task number " + i);
+            task.setStatus(TaskStatus.TODO);
+            task.setPriority(TaskPriority.MEDIUM);
+            task.setProject(project);
+            taskRepository.save(task);
+        }
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThat(taskRepository.softDeleteByProjectId(project.getId(), now)).isEqualTo(5);
+        assertThat(projectRepository.softDelete(project.getId(), now, now)).isEqualTo(1);
+
+        assertThat(projectRepository.findById(project.getId())).isEmpty();
+        assertThat(taskRepository.findAll()).isEmpty();
+        assertThat(projectRepository.findIdsDueForPurge(now.plusSeconds(1), 10)).containsExactly(project.getId());
+
+        assertThat(taskRepository.deleteChunkByProjectId(project.getId(), 2)).isEqualTo(2);
+        assertThat(taskRepository.deleteChunkByProjectId(project.getId(), 2)).isEqualTo(2);
+        assertThat(taskRepository.deleteChunkByProjectId(project.getId(), 2)).isEqualTo(1);
+        assertThat(taskRepository.deleteChunkByProjectId(project.getId(), 2)).isZero();
+        assertThat(projectRepository.deletePurged(project.getId())).isEqualTo(1);
+        assertThat(projectRepository.findIdsDueForPurge(now.plusSeconds(1), 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should filter projects by case-insensitive name substring and prefix")
+    void shouldFilterByNameSubstringAndPrefix() {
+        for (String name : List.of("Alpha Launch", "Beta Alpha", "Gamma 100% Done")) {
+            Project other = new Project();
+            other.setName(name);
+            other.setStartDate(LocalDate.now());
+            projectRepository.save(other);
+        }
+        Sort byName = Sort.by("name");
+
+        assertThat(projectRepository.findAll(ProjectSpecification.nameContains("ALPHA"), byName))
+                .extracting(Project::getName)
+                .containsExactly("Alpha Launch", "Beta Alpha");
+        assertThat(projectRepository.findAll(ProjectSpecification.nameStartsWith(" alp"), byName))
+                .extracting(Project::getName)
+                .containsExactly("Alpha Launch");
+        assertThat(projectRepository.findAll(ProjectSpecification.nameContains("0% d"), byName))
+                .extracting(Project::getName)
+                .containsExactly("Gamma 100% Done");
+        assertThat(projectRepository.findAll(ProjectSpecification.nameContains("%"), byName))
+                .extracting(Project::getName)
+                .containsExactly("Gamma 100% Done");
+        assertThat(projectRepository.findAll(ProjectSpecification.nameContains("  "), byName))
+                .hasSize(4);
+    }
 }
\ No newline at end of file
@@ -1,27 +1,35 @@
 package com.sisinnov.pms.repository;
 
 import com.sisinnov.pms.config.TestJpaAuditingConfig;
+import com.sisinnov.pms.dto.response.TaskDueItemResponse;
+import com.sisinnov.pms.dto.response.TaskResponse;
 import com.sisinnov.pms.entity.Project;
 import com.sisinnov.pms.entity.Task;
 import com.sisinnov.pms.enums.TaskPriority;
 import com.sisinnov.pms.enums.TaskStatus;
 import com.sisinnov.pms.repository.specification.TaskSpecification;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @Import(TestJpaAuditingConfig.class)
 @ActiveProfiles("test")
 @DisplayName("TaskRepository Tests")
@@ -33,6 +41,9 @@ class TaskRepositoryTest {
     @Autowired
     private ProjectRepository projectRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     private Project project;
     private Task task1;
     private Task task2;
@@ -149,6 +160,32 @@ class TaskRepositoryTest {
         assertThat(tasks.get(0).getTitle()).isEqualTo("Task 1");
     }
 
+    @Test
+    @DisplayName("Should cap due previews per bucket and count open tasks in each bucket")
+    void shouldCapDuePreviewsPerBucket() {
+        LocalDate today = LocalDate.now();
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            Task overdue = createTask("Overdue " + i, TaskStatus.TODO, TaskPriority.HIGH, false);
+            overdue.setDueDate(today.minusDays(10 - i));
+            tasks.add(overdue);
+        }
+        Task finished = createTask("Finished", TaskStatus.DONE, TaskPriority.LOW, false);
+        finished.setDueDate(today.minusDays(1));
+        tasks.add(finished);
+        task1.setDueDate(today.plusDays(2));
+        tasks.add(task1);
+        taskRepository.saveAll(tasks);
+
+        List<TaskDueItemResponse> previews = taskRepository.findDuePreviews(project.getId(), today, today.plusDays(6), 2);
+        List<Object[]> counts = taskRepository.countDueBuckets(today, today.plusDays(6), TaskStatus.DONE);
+
+        assertThat(previews).extracting(TaskDueItemResponse::title)
+                .containsExactly("Overdue 1", "Overdue 2", "Task 1");
+        assertThat(counts).hasSize(1);
+        assertThat(counts.get(0)).containsExactly(project.getId(), 3L, 1L);
+    }
+
     @Test
     @DisplayName("Should return empty when no tasks match filters")
     void shouldReturnEmptyWhenNoTasksMatchFilters() {
@@ -171,6 +208,82 @@ class TaskRepositoryTest {
         assertThat(tasks).noneMatch(Task::getDeleted);
     }
 
+    @Test
+    @DisplayName("Should walk every task exactly once with keyset specification")
+    void shouldWalkTasksWithKeysetSpecification() {
+        entityManager.flush();
+        entityManager.clear();
+
+        Sort order = Sort.by("createdAt", "id");
+        List<Task> expected = taskRepository.findAll(order);
+        List<Task> visited = new ArrayList<>();
+
+        Task last = null;
+        do {
+            Specification<Task> spec = last == null
+                    ? Specification.where(null)
+                    : TaskSpecification.createdAfter(last.getCreatedAt(), last.getId());
+
+            List<Task> page = taskRepository.findBy(spec, query -> query.sortBy(order).limit(1).all());
+            last = page.isEmpty() ? null : page.get(0);
+            if (last != null) {
+                visited.add(last);
+            }
+        } while (last != null);
+
+        assertThat(visited).extracting(Task::getId)
+                .containsExactlyElementsOf(expected.stream().map(Task::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Should load task responses across projects in a single statement")
+    void shouldLoadResponsesInSingleStatement() {
+        Project other = new Project();
+        other.setName("Other Project");
+        other.setStartDate(LocalDate.now());
+        other = projectRepository.save(other);
+
+        Task foreign = createTask("Task 4", TaskStatus.DONE, TaskPriority.LOW, false);
+        foreign.setProject(other);
+        taskRepository.save(foreign);
+
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = statistics();
+
+        List<TaskResponse> responses = taskRepository.findResponses(
+                TaskSpecification.notDeleted(), Sort.by("createdAt", "id"), 0);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(responses).hasSize(3);
+        assertThat(responses).extracting(TaskResponse::projectName)
+                .containsExactlyInAnyOrder("Test Project", "Test Project", "Other Project");
+    }
+
+    @Test
+    @DisplayName("Should load a single task response in one statement")
+    void shouldLoadResponseByIdInSingleStatement() {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = statistics();
+
+        Optional<TaskResponse> response = taskRepository.findResponseById(task1.getId());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(response).isPresent();
+        assertThat(response.get().projectId()).isEqualTo(project.getId());
+        assertThat(response.get().projectName()).isEqualTo("Test Project");
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
     private Task createTask(String title, TaskStatus status, TaskPriority priority, boolean deleted) {
         Task task = new Task();
         task.setTitle(title);
@@ -0,0 +1,106 @@
+package com.sisinnov.pms.repository.status;
+
+import com.sisinnov.pms.config.TestJpaAuditingConfig;
+import com.sisinnov.pms.entity.Project;
+import com.sisinnov.pms.entity.Task;
+import com.sisinnov.pms.enums.TaskPriority;
+import com.sisinnov.pms.enums.TaskStatus;
+import com.sisinnov.pms.repository.ProjectRepository;
+import com.sisinnov.pms.repository.TaskRepository;
+import com.sisinnov.pms.repository.projection.TaskStatusTransition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "tasks.status-update.engine=postgres"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TestJpaAuditingConfig.class, PostgresTaskStatusTransitionRepository.class})
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("PostgresTaskStatusTransitionRepository Tests")
+class PostgresTaskStatusTransitionRepositoryTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private PostgresTaskStatusTransitionRepository transitionRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        Project project = new Project();
+        project.setName("Project " + System.nanoTime());
+        project.setStartDate(LocalDate.now());
+        project = projectRepository.saveAndFlush(project);
+
+        task = new Task();
+        task.setTitle("Task 1");
+        task.setDescription("Description");
+        task.setStatus(TaskStatus.TODO);
+        task.setPriority(TaskPriority.HIGH);
+        task.setProject(project);
+        task = taskRepository.saveAndFlush(task);
+    }
+
+    @Test
+    @DisplayName("Should move status, bump version and return the previous status in one statement")
+    void shouldTransitionAndReturnPreviousStatus() {
+        Optional<TaskStatusTransition> result = transitionRepository.transition(
+                task.getId(), TaskStatus.DOING, TaskStatus.TODO, 0L, LocalDateTime.now());
+
+        assertThat(result).isPresent();
+        assertThat(result.get().oldStatus()).isEqualTo(TaskStatus.TODO);
+        assertThat(result.get().task().status()).isEqualTo(TaskStatus.DOING);
+        assertThat(result.get().task().version()).isEqualTo(1L);
+        assertThat(result.get().task().projectName()).isEqualTo(task.getProject().getName());
+    }
+
+    @Test
+    @DisplayName("Should leave the task untouched when a precondition does not hold")
+    void shouldRejectTransitionWhenPreconditionFails() {
+        assertThat(transitionRepository.transition(
+                task.getId(), TaskStatus.DOING, TaskStatus.DONE, null, LocalDateTime.now())).isEmpty();
+        assertThat(transitionRepository.transition(
+                task.getId(), TaskStatus.DOING, null, 5L, LocalDateTime.now())).isEmpty();
+        assertThat(transitionRepository.transition(
+                task.getId(), TaskStatus.TODO, null, null, LocalDateTime.now())).isEmpty();
+
+        assertThat(transitionRepository.transition(
+                task.getId(), TaskStatus.DONE, null, null, LocalDateTime.now()))
+                .map(transition -> transition.task().version())
+                .contains(1L);
+    }
+}
\ No newline at end of file
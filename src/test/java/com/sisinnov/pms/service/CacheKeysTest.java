@@ -0,0 +1,236 @@
+package com.sisinnov.pms.service;
+
+import com.sisinnov.pms.dto.response.ProjectResponse;
+import com.sisinnov.pms.dto.response.TaskResponse;
+import com.sisinnov.pms.enums.TaskPriority;
+import com.sisinnov.pms.enums.TaskStatus;
+import com.sisinnov.pms.repository.version.ResourceVersionRepository;
+import com.sisinnov.pms.repository.version.InMemoryResourceVersionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CacheKeys Tests")
+class CacheKeysTest {
+
+    private final UUID projectId = UUID.randomUUID();
+    private final UUID otherProjectId = UUID.randomUUID();
+
+    private InMemoryResourceVersionRepository versionRepository;
+    private ConcurrentMapCacheManager cacheManager;
+    private CacheTagGenerations tagGenerations;
+    private CacheKeys cacheKeys;
+    private CacheInvalidator cacheInvalidator;
+
+    @BeforeEach
+    void setUp() {
+        versionRepository = new InMemoryResourceVersionRepository();
+        cacheManager = new ConcurrentMapCacheManager(CacheKeys.TASKS, CacheKeys.PROJECTS);
+        tagGenerations = generations(versionRepository);
+        cacheKeys = new CacheKeys(tagGenerations);
+        cacheInvalidator = new CacheInvalidator(cacheManager, tagGenerations);
+    }
+
+    @Test
+    @DisplayName("Should rotate only the keys whose tag was touched")
+    void shouldRotateOnlyTouchedKeys() {
+        String projectList = cacheKeys.taskList(null, null, projectId);
+        String otherProjectList = cacheKeys.taskList(TaskStatus.TODO, null, otherProjectId);
+        String doneList = cacheKeys.tasksByStatus(TaskStatus.DONE);
+        String lowList = cacheKeys.tasksByPriority(TaskPriority.LOW);
+        String unfiltered = cacheKeys.taskList(null, null, null);
+        String projects = cacheKeys.projectCount();
+
+        cacheInvalidator.tags()
+                .taskIn(projectId, TaskStatus.TODO, TaskPriority.HIGH)
+                .taskIn(projectId, TaskStatus.DONE, TaskPriority.HIGH)
+                .invalidate();
+
+        assertThat(cacheKeys.taskList(null, null, projectId)).isNotEqualTo(projectList);
+        assertThat(cacheKeys.tasksByStatus(TaskStatus.DONE)).isNotEqualTo(doneList);
+        assertThat(cacheKeys.taskList(null, null, null)).isNotEqualTo(unfiltered);
+        assertThat(cacheKeys.taskList(TaskStatus.TODO, null, otherProjectId)).isEqualTo(otherProjectList);
+        assertThat(cacheKeys.tasksByPriority(TaskPriority.LOW)).isEqualTo(lowList);
+        assertThat(cacheKeys.projectCount()).isEqualTo(projects);
+    }
+
+    @Test
+    @DisplayName("Should evict single entries by id without touching list generations")
+    void shouldEvictEntriesById() {
+        UUID taskId = UUID.randomUUID();
+        UUID otherTaskId = UUID.randomUUID();
+        cacheManager.getCache(CacheKeys.TASKS).put(taskId, "task");
+        cacheManager.getCache(CacheKeys.TASKS).put(otherTaskId, "other task");
+        cacheManager.getCache(CacheKeys.PROJECTS).put(projectId, "project");
+        String projectList = cacheKeys.projectList(null, null, PageRequest.of(0, 20));
+
+        cacheInvalidator.tags().task(taskId).project(projectId).invalidate();
+
+        assertThat(cacheManager.getCache(CacheKeys.TASKS).get(taskId)).isNull();
+        assertThat(cacheManager.getCache(CacheKeys.TASKS).get(otherTaskId)).isNotNull();
+        assertThat(cacheManager.getCache(CacheKeys.PROJECTS).get(projectId)).isNull();
+        assertThat(cacheKeys.projectList(null, null, PageRequest.of(0, 20)))
+                .isEqualTo(projectList);
+    }
+
+    @Test
+    @DisplayName("Should rotate a user's project pages only when that user's memberships change")
+    void shouldRotateUserProjectPagesPerUser() {
+        UUID userId = UUID.randomUUID();
+        UUID otherUserId = UUID.randomUUID();
+        String firstPage = cacheKeys.userProjects(userId, null, 21);
+        String nextPage = cacheKeys.userProjects(userId, projectId, 21);
+        String otherFirstPage = cacheKeys.userProjects(otherUserId, null, 21);
+        String projectList = cacheKeys.projectCount();
+
+        cacheInvalidator.tags().user(userId).invalidate();
+
+        assertThat(cacheKeys.userProjects(userId, null, 21)).isNotEqualTo(firstPage);
+        assertThat(cacheKeys.userProjects(userId, projectId, 21)).isNotEqualTo(nextPage);
+        assertThat(cacheKeys.userProjects(otherUserId, null, 21)).isEqualTo(otherFirstPage);
+        assertThat(cacheKeys.projectCount()).isEqualTo(projectList);
+    }
+
+    @Test
+    @DisplayName("Should drop only one project's tasks and the lists that can show them")
+    void shouldInvalidateOneProjectsTasks() {
+        UUID taskId = UUID.randomUUID();
+        UUID otherTaskId = UUID.randomUUID();
+        cacheManager.getCache(CacheKeys.TASKS).put(taskId, "task");
+        cacheManager.getCache(CacheKeys.TASKS).put(otherTaskId, "other task");
+        String projectList = cacheKeys.taskList(null, null, projectId);
+        String otherProjectList = cacheKeys.taskList(null, null, otherProjectId);
+        String doneList = cacheKeys.tasksByStatus(TaskStatus.DONE);
+        String unfiltered = cacheKeys.taskList(null, null, null);
+
+        cacheInvalidator.tags().tasksOf(projectId, List.of(taskId)).invalidate();
+
+        assertThat(cacheManager.getCache(CacheKeys.TASKS).get(taskId)).isNull();
+        assertThat(cacheManager.getCache(CacheKeys.TASKS).get(otherTaskId)).isNotNull();
+        assertThat(cacheKeys.taskList(null, null, projectId)).isNotEqualTo(projectList);
+        assertThat(cacheKeys.tasksByStatus(TaskStatus.DONE)).isNotEqualTo(doneList);
+        assertThat(cacheKeys.taskList(null, null, null)).isNotEqualTo(unfiltered);
+        assertThat(cacheKeys.taskList(null, null, otherProjectId)).isEqualTo(otherProjectList);
+    }
+
+    @Test
+    @DisplayName("Should write fresh entries through and never replace them with older versions")
+    void shouldWriteFreshEntriesThrough() {
+        UUID taskId = UUID.randomUUID();
+        TaskResponse v2 = task(taskId, "Renamed", 2L);
+        cacheManager.getCache(CacheKeys.TASKS).put(taskId, task(taskId, "Original", 1L));
+
+        cacheInvalidator.tags().task(taskId).task(v2).invalidate();
+        assertThat(cacheManager.getCache(CacheKeys.TASKS).get(taskId).get()).isEqualTo(v2);
+
+        cacheInvalidator.tags().task(task(taskId, "Original", 1L)).invalidate();
+        assertThat(cacheManager.getCache(CacheKeys.TASKS).get(taskId).get()).isEqualTo(v2);
+    }
+
+    @Test
+    @DisplayName("Should write an updated project through unless a newer one is cached")
+    void shouldWriteUpdatedProjectThrough() {
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0);
+        ProjectResponse updated = new ProjectResponse(projectId, "Renamed", null, null, null, 3, now, now.plusMinutes(1));
+        cacheManager.getCache(CacheKeys.PROJECTS).put(projectId,
+                new ProjectResponse(projectId, "Original", null, null, null, 3, now, now));
+
+        cacheInvalidator.tags().project(updated).projectLists().invalidate();
+        assertThat(cacheManager.getCache(CacheKeys.PROJECTS).get(projectId).get()).isEqualTo(updated);
+
+        cacheInvalidator.tags().project(new ProjectResponse(projectId, "Original", null, null, null, 3, now, now))
+                .invalidate();
+        assertThat(cacheManager.getCache(CacheKeys.PROJECTS).get(projectId).get()).isEqualTo(updated);
+    }
+
+    @Test
+    @DisplayName("Should build short keys that keep distinct query shapes apart")
+    void shouldBuildShortDistinctKeys() {
+        assertThat(cacheKeys.taskList(null, TaskPriority.HIGH, projectId))
+                .isEqualTo("list:~:HIGH:" + projectId + "#0");
+        assertThat(cacheKeys.taskPage(TaskStatus.TODO, null, null, "a:1", 20))
+                .isNotEqualTo(cacheKeys.taskPage(TaskStatus.TODO, null, null, "a", 1))
+                .startsWith("cursor:TODO:~:~:20:3=a:1#");
+        assertThat(cacheKeys.projectList("Alpha", null, PageRequest.of(1, 20, Sort.by("name"))))
+                .isEqualTo("list:1:20:name+:5=alpha:~#0");
+    }
+
+    @Test
+    @DisplayName("Should keep free-form values apart from missing filters and from each other")
+    void shouldNotCollideOnFreeFormValues() {
+        PageRequest page = PageRequest.of(0, 20);
+
+        assertThat(cacheKeys.projectList("*", null, page))
+                .isNotEqualTo(cacheKeys.projectList(null, null, page));
+        assertThat(cacheKeys.projectList("~", null, page))
+                .isNotEqualTo(cacheKeys.projectList(null, null, page));
+        assertThat(cacheKeys.projectList("a:b", null, page))
+                .isNotEqualTo(cacheKeys.projectList("a", "b", page));
+        assertThat(cacheKeys.taskSearch("*", null, 20))
+                .isNotEqualTo(cacheKeys.taskSearch(null, null, 20));
+        assertThat(cacheKeys.taskPage(null, null, null, "a#1", 20))
+                .isNotEqualTo(cacheKeys.taskPage(null, null, null, "a", 20));
+    }
+
+    @Test
+    @DisplayName("Should keep tag generations locally and reload them when a peer bumps them")
+    void shouldReloadGenerationsBumpedByPeers() {
+        CacheTagGenerations peerGenerations = generations(versionRepository);
+        CacheKeys peerKeys = new CacheKeys(peerGenerations);
+        String projectList = peerKeys.taskList(null, null, projectId);
+
+        cacheInvalidator.tags().taskIn(projectId, TaskStatus.TODO, TaskPriority.HIGH).invalidate();
+
+        assertThat(peerKeys.taskList(null, null, projectId)).isEqualTo(projectList);
+        peerGenerations.onMessage(message("other-node\n" + CacheTagGenerations.MESSAGE_TYPE + "\n"
+                + CacheKeys.project(projectId) + "," + CacheKeys.ALL_LISTS), null);
+        assertThat(peerKeys.taskList(null, null, projectId))
+                .isNotEqualTo(projectList)
+                .isEqualTo(cacheKeys.taskList(null, null, projectId));
+    }
+
+    @Test
+    @DisplayName("Should skip the cache when no tag generation can be read")
+    void shouldSkipCacheWithoutGeneration() {
+        CacheKeys offline = new CacheKeys(generations(new ResourceVersionRepository() {
+            @Override
+            public long current(String resource) {
+                throw new IllegalStateException("Redis is down");
+            }
+
+            @Override
+            public long increment(String resource) {
+                throw new IllegalStateException("Redis is down");
+            }
+        }));
+
+        assertThat(offline.taskList(null, null, projectId)).isEqualTo(CacheKeys.UNCACHED);
+        assertThat(offline.projectCount()).isEqualTo(CacheKeys.UNCACHED);
+    }
+
+    private CacheTagGenerations generations(ResourceVersionRepository repository) {
+        return new CacheTagGenerations(repository, null, false, "cache:invalidation", Duration.ofMinutes(1));
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage("cache:invalidation".getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private TaskResponse task(UUID id, String title, Long version) {
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0);
+        return new TaskResponse(id, title, null, TaskStatus.TODO, TaskPriority.HIGH, null,
+                projectId, "Project", now, now, version);
+    }
+}
\ No newline at end of file
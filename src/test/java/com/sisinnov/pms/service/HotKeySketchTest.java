@@ -0,0 +1,64 @@
+package com.sisinnov.pms.service;
+
+import com.sisinnov.pms.repository.warmup.InMemoryHotKeyRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Hot Key Sketch Tests")
+class HotKeySketchTest {
+
+    @Test
+    @DisplayName("Should rank keys by read count and keep counts recorded after a snapshot")
+    void shouldRankKeysByReadCount() {
+        HotKeySketch sketch = new HotKeySketch(10);
+        for (int i = 0; i < 5; i++) {
+            sketch.record("task:hot");
+        }
+        sketch.record("task:cold");
+        sketch.record("task:cold");
+
+        Map<String, Long> snapshot = sketch.topCounts(10);
+        assertThat(snapshot).containsExactly(Map.entry("task:hot", 5L), Map.entry("task:cold", 2L));
+
+        sketch.record("task:hot");
+        sketch.subtract(snapshot);
+        assertThat(sketch.topCounts(10)).containsExactly(Map.entry("task:hot", 1L));
+    }
+
+    @Test
+    @DisplayName("Should evict the coldest keys instead of dropping new ones when full")
+    void shouldEvictColdestKeysWhenFull() {
+        HotKeySketch sketch = new HotKeySketch(2);
+        for (int i = 0; i < 8; i++) {
+            sketch.record("project:a");
+        }
+        sketch.record("project:b");
+        sketch.record("project:b");
+        sketch.record("project:c");
+        sketch.record("project:d");
+
+        sketch.record("project:e");
+        sketch.record("project:e");
+        sketch.record("project:e");
+
+        assertThat(sketch.size()).isEqualTo(3);
+        assertThat(sketch.top(10)).containsExactly("project:a", "project:e", "project:b");
+    }
+
+    @Test
+    @DisplayName("Should merge hot keys from several nodes and let old counts decay")
+    void shouldMergeHotKeysFromSeveralNodes() {
+        InMemoryHotKeyRepository repository = new InMemoryHotKeyRepository(0.5, 2);
+
+        repository.merge(Map.of("task:a", 10L, "task:b", 4L));
+        repository.merge(Map.of("task:b", 4L, "task:c", 1L));
+        assertThat(repository.load(10)).containsExactly("task:b", "task:a");
+
+        repository.merge(Map.of("task:c", 8L));
+        assertThat(repository.load(1)).containsExactly("task:c");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.sisinnov.pms.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Id Bloom Filter Tests")
+class IdBloomFilterTest {
+
+    @Test
+    @DisplayName("Should never reject an id that was added")
+    void shouldNeverRejectAddedIds() {
+        IdBloomFilter filter = new IdBloomFilter(10_000, 0.01);
+        List<UUID> ids = IntStream.range(0, 10_000).mapToObj(i -> UUID.randomUUID()).toList();
+        ids.forEach(filter::add);
+
+        assertThat(ids).allMatch(filter::mightContain);
+    }
+
+    @Test
+    @DisplayName("Should reject most unknown ids within the configured false positive rate")
+    void shouldRejectUnknownIds() {
+        IdBloomFilter filter = new IdBloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.add(UUID.randomUUID()));
+
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain(UUID.randomUUID()))
+                .count();
+
+        assertThat(falsePositives).isLessThan(2_000);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,88 @@
+package com.sisinnov.pms.service;
+
+import com.sisinnov.pms.repository.ProjectRepository;
+import com.sisinnov.pms.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Id Existence Filter Tests")
+class IdExistenceFilterTest {
+
+    private TaskRepository taskRepository;
+    private ProjectRepository projectRepository;
+    private IdExistenceFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository = mock(TaskRepository.class);
+        projectRepository = mock(ProjectRepository.class);
+        filter = filter(Duration.ofHours(12));
+    }
+
+    @Test
+    @DisplayName("Should keep ids added before a rebuild whose snapshot does not contain them yet")
+    void shouldReplayRecentIdsIntoRebuiltFilter() {
+        UUID stored = UUID.randomUUID();
+        UUID created = UUID.randomUUID();
+        UUID createdLater = UUID.randomUUID();
+        when(taskRepository.findAllIds()).thenReturn(List.of(stored));
+        when(projectRepository.findAllIds()).thenReturn(List.of());
+
+        filter.rebuild();
+        filter.addTask(created);
+        filter.rebuild();
+
+        assertThat(filter.mightContainTask(stored)).isTrue();
+        assertThat(filter.mightContainTask(created)).isTrue();
+
+        when(taskRepository.findAllIds()).thenReturn(List.of(stored, created));
+        filter.addTask(createdLater);
+        filter.rebuild();
+
+        assertThat(filter.mightContainTask(created)).isTrue();
+        assertThat(filter.mightContainTask(createdLater)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should learn ids confirmed by a lookup after the filter missed them")
+    void shouldLearnConfirmedIds() {
+        UUID missed = UUID.randomUUID();
+        when(taskRepository.findAllIds()).thenReturn(List.of());
+        when(projectRepository.findAllIds()).thenReturn(List.of());
+        filter.rebuild();
+
+        assertThat(filter.mightContainProject(missed)).isFalse();
+        filter.confirmProject(missed);
+        assertThat(filter.mightContainProject(missed)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should let every id through while the filter is unbuilt or older than its max age")
+    void shouldFallBackWhileUnbuiltOrStale() {
+        UUID unknown = UUID.randomUUID();
+        when(taskRepository.findAllIds()).thenReturn(List.of());
+        when(projectRepository.findAllIds()).thenReturn(List.of());
+
+        assertThat(filter.mightContainTask(unknown)).isTrue();
+        filter.rebuild();
+        assertThat(filter.mightContainTask(unknown)).isFalse();
+
+        IdExistenceFilter stale = filter(Duration.ZERO);
+        stale.rebuild();
+        assertThat(stale.mightContainTask(unknown)).isTrue();
+    }
+
+    private IdExistenceFilter filter(Duration maxAge) {
+        return new IdExistenceFilter(taskRepository, projectRepository, null,
+                true, false, "id-filter:additions", 1_000, 0.01, maxAge);
+    }
+}
\ No newline at end of file
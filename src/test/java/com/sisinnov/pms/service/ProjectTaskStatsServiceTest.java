@@ -0,0 +1,123 @@
+package com.sisinnov.pms.service;
+
+import com.sisinnov.pms.entity.Project;
+import com.sisinnov.pms.entity.ProjectTaskStats;
+import com.sisinnov.pms.entity.Task;
+import com.sisinnov.pms.enums.TaskPriority;
+import com.sisinnov.pms.enums.TaskStatus;
+import com.sisinnov.pms.repository.ProjectTaskStatsRepository;
+import com.sisinnov.pms.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProjectTaskStatsService Tests")
+class ProjectTaskStatsServiceTest {
+
+    @Mock
+    private ProjectTaskStatsRepository statsRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @InjectMocks
+    private ProjectTaskStatsService statsService;
+
+    private UUID projectId;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        projectId = UUID.randomUUID();
+
+        Project project = new Project();
+        project.setId(projectId);
+
+        task = new Task();
+        task.setProject(project);
+        task.setStatus(TaskStatus.TODO);
+        task.setPriority(TaskPriority.HIGH);
+    }
+
+    @Test
+    @DisplayName("Should move a task between counters when its status changes")
+    void shouldMoveTaskBetweenCounters() {
+        when(statsRepository.adjustTaskCount(any(), any(), any(), anyLong())).thenReturn(1);
+        task.setStatus(TaskStatus.DONE);
+
+        statsService.move(projectId, TaskStatus.TODO, TaskPriority.HIGH, task);
+
+        verify(statsRepository).adjustTaskCount(projectId, TaskStatus.TODO, TaskPriority.HIGH, -1);
+        verify(statsRepository).adjustTaskCount(projectId, TaskStatus.DONE, TaskPriority.HIGH, 1);
+    }
+
+    @Test
+    @DisplayName("Should not touch counters when nothing counted changed")
+    void shouldNotTouchCountersWhenUnchanged() {
+        statsService.move(projectId, TaskStatus.TODO, TaskPriority.HIGH, task);
+
+        verify(statsRepository, never()).adjustTaskCount(any(), any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should create a missing counter on increment")
+    void shouldCreateMissingCounterOnIncrement() {
+        when(statsRepository.adjustTaskCount(projectId, TaskStatus.TODO, TaskPriority.HIGH, 1)).thenReturn(0);
+
+        statsService.increment(task);
+
+        InOrder order = inOrder(statsRepository);
+        order.verify(statsRepository).adjustTaskCount(projectId, TaskStatus.TODO, TaskPriority.HIGH, 1);
+        order.verify(statsRepository).insertIfAbsent(projectId, "TODO", "HIGH");
+        order.verify(statsRepository).adjustTaskCount(projectId, TaskStatus.TODO, TaskPriority.HIGH, 1);
+        verify(statsRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should repair drifted and missing counters on reconcile")
+    void shouldRepairDriftOnReconcile() {
+        List<ProjectTaskStats> stored = new ArrayList<>();
+        for (TaskStatus status : TaskStatus.values()) {
+            for (TaskPriority priority : TaskPriority.values()) {
+                if (status == TaskStatus.DONE && priority == TaskPriority.LOW) {
+                    continue;
+                }
+                stored.add(new ProjectTaskStats(new ProjectTaskStats.Key(projectId, status, priority), 0L));
+            }
+        }
+        ProjectTaskStats todoHigh = stored.get(2);
+        todoHigh.setTaskCount(5L);
+
+        when(statsRepository.findByProjectIdForUpdate(projectId)).thenReturn(stored);
+        when(taskRepository.countByStatusAndPriority(projectId)).thenReturn(List.of(
+                new Object[]{TaskStatus.TODO, TaskPriority.HIGH, 3L},
+                new Object[]{TaskStatus.DONE, TaskPriority.LOW, 2L}
+        ));
+
+        int repaired = statsService.reconcile(projectId);
+
+        assertThat(repaired).isEqualTo(2);
+        assertThat(todoHigh.getTaskCount()).isEqualTo(3L);
+        ArgumentCaptor<ProjectTaskStats> captor = ArgumentCaptor.forClass(ProjectTaskStats.class);
+        verify(statsRepository).save(captor.capture());
+        assertThat(captor.getValue().getId())
+                .isEqualTo(new ProjectTaskStats.Key(projectId, TaskStatus.DONE, TaskPriority.LOW));
+        assertThat(captor.getValue().getTaskCount()).isEqualTo(2L);
+    }
+}
\ No newline at end of file
@@ -103,7 +103,8 @@ class TaskServiceTest {
                 projectId,
                 "Test Project",
                 LocalDateTime.now(),
-                LocalDateTime.now()
+                LocalDateTime.now(),
+                0L
         );
     }
 
@@ -114,7 +115,7 @@ class TaskServiceTest {
         when(taskMapper.toEntity(any(CreateTaskRequest.class))).thenReturn(task);
         when(taskRepository.save(any(Task.class))).thenReturn(task);
         when(taskMapper.toResponse(any(Task.class))).thenReturn(taskResponse);
-        when(eventStoreService.saveTaskEvent(anyString(), any(UUID.class), any(), any())).thenReturn(null);
+        when(eventStoreService.saveTaskEvent(anyString(), any(UUID.class), anyLong(), any(), any())).thenReturn(null);
         doNothing().when(taskEventProducer).publishTaskCreated(any());
 
         TaskResponse response = taskService.create(createRequest);
@@ -186,7 +187,7 @@ class TaskServiceTest {
         when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
         when(taskRepository.save(any(Task.class))).thenReturn(task);
         when(taskMapper.toResponse(any(Task.class))).thenReturn(taskResponse);
-        when(eventStoreService.saveTaskEvent(anyString(), any(UUID.class), any(), any())).thenReturn(null);
+        when(eventStoreService.saveTaskEvent(anyString(), any(UUID.class), anyLong(), any(), any())).thenReturn(null);
         doNothing().when(taskEventProducer).publishTaskStatusChanged(any());
 
         TaskResponse response = taskService.updateStatus(taskId, TaskStatus.DOING);
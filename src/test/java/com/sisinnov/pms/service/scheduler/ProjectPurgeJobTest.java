@@ -0,0 +1,117 @@
+package com.sisinnov.pms.service.scheduler;
+
+import com.sisinnov.pms.config.TestJpaAuditingConfig;
+import com.sisinnov.pms.entity.Project;
+import com.sisinnov.pms.entity.Task;
+import com.sisinnov.pms.enums.TaskPriority;
+import com.sisinnov.pms.enums.TaskStatus;
+import com.sisinnov.pms.repository.ProjectRepository;
+import com.sisinnov.pms.repository.TaskRepository;
+import com.sisinnov.pms.repository.lock.InMemoryJobLockRepository;
+import com.sisinnov.pms.repository.lock.JobLockRepository;
+import com.sisinnov.pms.service.ProjectPurgeService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({TestJpaAuditingConfig.class, InMemoryJobLockRepository.class, ProjectPurgeService.class, ProjectPurgeJob.class})
+@ActiveProfiles("test")
+@DisplayName("ProjectPurgeJob Tests")
+class ProjectPurgeJobTest {
+
+    @Autowired
+    private ProjectPurgeJob purgeJob;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JobLockRepository jobLockRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @AfterEach
+    void tearDown() {
+        jobLockRepository.release("project-purge");
+    }
+
+    @Test
+    @DisplayName("Should purge projects past purgeAfter and keep those not yet due")
+    void shouldPurgeOnlyDueProjects() {
+        LocalDateTime now = LocalDateTime.now();
+        UUID due = softDeletedProject("Due", 3, now.minusDays(31), now.minusMinutes(1));
+        UUID pending = softDeletedProject("Pending", 2, now.minusDays(1), now.plusDays(29));
+
+        purgeJob.purge();
+
+        assertThat(countProjects(due)).isZero();
+        assertThat(countTasks(due)).isZero();
+        assertThat(countProjects(pending)).isEqualTo(1);
+        assertThat(countTasks(pending)).isEqualTo(2);
+        assertThat(jobLockRepository.tryAcquire("project-purge", Duration.ofMinutes(1))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should skip purging while another node holds the lock")
+    void shouldSkipWhenLockIsHeld() {
+        LocalDateTime now = LocalDateTime.now();
+        UUID due = softDeletedProject("Due", 1, now.minusDays(31), now.minusMinutes(1));
+        jobLockRepository.tryAcquire("project-purge", Duration.ofMinutes(1));
+
+        purgeJob.purge();
+
+        assertThat(countProjects(due)).isEqualTo(1);
+        assertThat(countTasks(due)).isEqualTo(1);
+    }
+
+    private UUID softDeletedProject(String name, int tasks, LocalDateTime deletedAt, LocalDateTime purgeAfter) {
+        Project project = new Project();
+        project.setName(name);
+        project.setStartDate(LocalDate.now());
+        projectRepository.save(project);
+
+        for (int i = 0; i < tasks; i++) {
+            Task task = new Task();
+            task.setTitle(name + " task " + i);
+            task.setStatus(TaskStatus.TODO);
+            task.setPriority(TaskPriority.MEDIUM);
+            task.setProject(project);
+            taskRepository.save(task);
+        }
+
+        taskRepository.softDeleteByProjectId(project.getId(), deletedAt);
+        projectRepository.softDelete(project.getId(), deletedAt, purgeAfter);
+        return project.getId();
+    }
+
+    private long countTasks(UUID projectId) {
+        return ((Number) entityManager
+                .createNativeQuery("SELECT COUNT(*) FROM tasks WHERE project_id = :id")
+                .setParameter("id", projectId)
+                .getSingleResult()).longValue();
+    }
+
+    private long countProjects(UUID id) {
+        return ((Number) entityManager
+                .createNativeQuery("SELECT COUNT(*) FROM projects WHERE id = :id")
+                .setParameter("id", id)
+                .getSingleResult()).longValue();
+    }
+}
\ No newline at end of file